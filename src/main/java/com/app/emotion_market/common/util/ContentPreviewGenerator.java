@@ -0,0 +1,126 @@
+package com.app.emotion_market.common.util;
+
+import com.app.emotion_market.entity.SystemEmotion;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감정 상품 콘텐츠(JSON)에서 목록용 미리보기 문구 생성
+ * 콘텐츠 저장 시 한 번만 계산해 system_emotions의 preview 컬럼에 보관
+ * 제목은 사용자 입력이므로 컬럼 길이(SystemEmotion.PREVIEW_LENGTH)에 맞춰 자름
+ */
+@Slf4j
+public final class ContentPreviewGenerator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String ELLIPSIS = "…";
+
+    private ContentPreviewGenerator() {
+    }
+
+    public static Preview generate(String contentsJson) {
+        if (contentsJson == null || contentsJson.isBlank()) {
+            return Preview.EMPTY;
+        }
+
+        try {
+            JsonNode root = OBJECT_MAPPER.readTree(contentsJson);
+            return new Preview(
+                    musicPreview(root.path("music")),
+                    videoPreview(root.path("videos")),
+                    textPreview(root.path("texts")),
+                    guidePreview(root.path("guides")));
+        } catch (Exception e) {
+            log.warn("콘텐츠 미리보기 생성 실패: {}", e.getMessage());
+            return Preview.EMPTY;
+        }
+    }
+
+    private static String musicPreview(JsonNode music) {
+        if (!music.isArray() || music.isEmpty()) {
+            return null;
+        }
+        return String.format("플레이리스트 %d곡", music.size());
+    }
+
+    private static String videoPreview(JsonNode videos) {
+        if (!videos.isArray() || videos.isEmpty()) {
+            return null;
+        }
+
+        int totalSeconds = 0;
+        for (JsonNode video : videos) {
+            totalSeconds += parseDurationSeconds(video.path("duration").asText(""));
+        }
+        return totalSeconds > 0
+                ? String.format("영상 %d편 (총 %d분)", videos.size(), Math.max(1, Math.round(totalSeconds / 60f)))
+                : String.format("영상 %d편", videos.size());
+    }
+
+    private static String textPreview(JsonNode texts) {
+        if (!texts.isArray() || texts.isEmpty()) {
+            return null;
+        }
+
+        String title = texts.get(0).path("title").asText("").strip();
+        if (title.isBlank()) {
+            return String.format("텍스트 %d개", texts.size());
+        }
+        return texts.size() == 1 ? fit(title, "") : fit(title, String.format(" 외 %d개", texts.size() - 1));
+    }
+
+    private static String guidePreview(JsonNode guides) {
+        if (!guides.isArray() || guides.isEmpty()) {
+            return null;
+        }
+
+        JsonNode first = guides.get(0);
+        String title = first.path("title").asText("").strip();
+        if (title.isBlank()) {
+            title = "실천 가이드";
+        }
+        int steps = first.path("steps").isArray() ? first.path("steps").size() : 0;
+        return fit(title, steps > 0 ? String.format(" %d단계", steps) : "");
+    }
+
+    /**
+     * 제목 뒤에 고정 문구를 붙이되 전체가 컬럼 길이를 넘으면 제목을 말줄임표로 자름
+     */
+    static String fit(String title, String suffix) {
+        int limit = SystemEmotion.PREVIEW_LENGTH - suffix.length();
+        if (title.length() <= limit) {
+            return title + suffix;
+        }
+
+        int end = limit - ELLIPSIS.length();
+        // 서로게이트 쌍(이모지 등)이 잘려 깨진 문자가 남지 않도록
+        if (end > 0 && Character.isHighSurrogate(title.charAt(end - 1))) {
+            end--;
+        }
+        return title.substring(0, end).stripTrailing() + ELLIPSIS + suffix;
+    }
+
+    /**
+     * "m:ss" 또는 "h:mm:ss" 형식의 재생 시간을 초 단위로 변환 (형식이 다르면 0)
+     */
+    private static int parseDurationSeconds(String duration) {
+        int seconds = 0;
+        for (String part : duration.split(":")) {
+            try {
+                seconds = seconds * 60 + Integer.parseInt(part.trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return seconds;
+    }
+
+    /**
+     * 콘텐츠 유형별 미리보기 문구 (해당 콘텐츠가 없으면 null)
+     */
+    public record Preview(String music, String video, String text, String guide) {
+
+        public static final Preview EMPTY = new Preview(null, null, null, null);
+    }
+}
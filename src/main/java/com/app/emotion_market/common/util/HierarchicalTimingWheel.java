@@ -0,0 +1,107 @@
+package com.app.emotion_market.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ * 하위 휠 한 바퀴가 상위 휠 한 칸이 되도록 여러 단계를 두고, 상위 칸의 시각이 되면 항목을 하위 휠로 내려보냄
+ * 등록/만료 처리가 항목 수와 무관하게 O(1)이며 advanceTo 호출 시 만기가 된 항목만 반환
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] unitTicks;
+    private final List<List<Entry<T>>> buckets;
+
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMs    최하위 휠 한 칸의 크기 (ms)
+     * @param wheelSize 휠 하나의 칸 수
+     * @param levels    휠 단계 수 (표현 가능 범위 = tickMs * wheelSize^levels)
+     * @param startMs   시작 시각 (epoch ms)
+     */
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.unitTicks = new long[levels + 1];
+        this.unitTicks[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            this.unitTicks[level] = Math.multiplyExact(unitTicks[level - 1], wheelSize);
+        }
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        for (int i = 0; i < levels * wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * 항목 등록
+     *
+     * @return 표현 가능 범위를 벗어나 등록하지 못한 경우 false (이미 지난 시각은 다음 advanceTo에서 바로 반환)
+     */
+    public synchronized boolean schedule(long deadlineMs, T item) {
+        long deadlineTick = Math.max(deadlineMs / tickMs, currentTick + 1);
+        if (deadlineTick - currentTick >= unitTicks[unitTicks.length - 1]) {
+            return false;
+        }
+        place(new Entry<>(deadlineTick, item));
+        size++;
+        return true;
+    }
+
+    /**
+     * 지정 시각까지 휠을 진행하고 만기가 된 항목 반환
+     */
+    public synchronized List<T> advanceTo(long nowMs) {
+        long targetTick = nowMs / tickMs;
+        List<T> due = new ArrayList<>();
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 상위 휠 칸의 시작 시각이면 그 칸의 항목을 하위 휠로 재배치
+            for (int level = unitTicks.length - 2; level >= 1; level--) {
+                if (currentTick % unitTicks[level] == 0) {
+                    List<Entry<T>> bucket = bucket(level, currentTick);
+                    List<Entry<T>> cascading = new ArrayList<>(bucket);
+                    bucket.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+
+            List<Entry<T>> bucket = bucket(0, currentTick);
+            for (Entry<T> entry : bucket) {
+                due.add(entry.item());
+            }
+            size -= bucket.size();
+            bucket.clear();
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick() - currentTick;
+        int level = 0;
+        while (level < unitTicks.length - 2 && delta >= unitTicks[level + 1]) {
+            level++;
+        }
+        bucket(level, entry.deadlineTick()).add(entry);
+    }
+
+    private List<Entry<T>> bucket(int level, long tick) {
+        int slot = (int) ((tick / unitTicks[level]) % wheelSize);
+        return buckets.get(level * wheelSize + slot);
+    }
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+}
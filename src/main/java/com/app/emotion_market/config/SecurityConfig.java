@@ -68,6 +68,9 @@ public class SecurityConfig {
                         // Swagger UI 접근 허용
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
                         
+                        // 관리자 API
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        
                         // 기타 모든 요청은 인증 필요
                         .anyRequest().authenticated())
                 
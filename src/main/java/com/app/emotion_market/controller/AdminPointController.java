@@ -0,0 +1,77 @@
+package com.app.emotion_market.controller;
+
+import com.app.emotion_market.dto.request.point.PointGrantRequest;
+import com.app.emotion_market.dto.response.common.ApiResponse;
+import com.app.emotion_market.dto.response.point.PointGrantResponse;
+import com.app.emotion_market.entity.PointGrantCampaign;
+import com.app.emotion_market.service.PointGrantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자 포인트 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/admin/points")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "관리자 포인트", description = "포인트 일괄 지급 등 관리자용 API")
+public class AdminPointController {
+
+    private final PointGrantService pointGrantService;
+
+    /**
+     * 포인트 일괄 지급 시작/재개
+     */
+    @PostMapping("/grants")
+    @Operation(summary = "포인트 일괄 지급", description = "이벤트/조정 포인트를 여러 사용자에게 지급합니다. 같은 캠페인 키로 다시 요청하면 중단된 지점부터 재개합니다")
+    public ResponseEntity<ApiResponse<PointGrantResponse>> grantPoints(@Valid @RequestBody PointGrantRequest request) {
+        try {
+            PointGrantCampaign campaign = pointGrantService.start(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponse.success("포인트 일괄 지급을 시작했습니다", convertToResponse(campaign)));
+
+        } catch (IllegalStateException e) {
+            log.warn("포인트 일괄 지급 실패 - 상태 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.failure(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            log.warn("포인트 일괄 지급 실패 - 입력 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        } catch (Exception e) {
+            log.error("포인트 일괄 지급 시작 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.failure("포인트 일괄 지급 중 오류가 발생했습니다")
+            );
+        }
+    }
+
+    /**
+     * 포인트 일괄 지급 진행 현황
+     */
+    @GetMapping("/grants/{campaignKey}")
+    @Operation(summary = "포인트 일괄 지급 현황", description = "캠페인의 지급 진행 상황을 조회합니다")
+    public ResponseEntity<ApiResponse<PointGrantResponse>> getGrantProgress(@PathVariable String campaignKey) {
+        return pointGrantService.findCampaign(campaignKey)
+                .map(campaign -> ResponseEntity.ok(
+                    ApiResponse.success("지급 현황을 조회했습니다", convertToResponse(campaign))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponse.failure("존재하지 않는 캠페인입니다")));
+    }
+
+    private PointGrantResponse convertToResponse(PointGrantCampaign campaign) {
+        return PointGrantResponse.builder()
+                .campaignKey(campaign.getCampaignKey())
+                .status(campaign.getStatus())
+                .amount(campaign.getAmount())
+                .grantedCount(campaign.getGrantedCount())
+                .checkpointUserId(campaign.getCheckpointUserId())
+                .updatedAt(campaign.getUpdatedAt())
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ import com.app.emotion_market.dto.response.LoginResponse;
 import com.app.emotion_market.dto.response.UserResponse;
 import com.app.emotion_market.security.jwt.TokenDto;
 import com.app.emotion_market.service.AuthService;
+import com.app.emotion_market.service.PointMutationRetryTemplate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -24,11 +25,14 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final PointMutationRetryTemplate pointMutationRetryTemplate;
 
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다. 신규 가입 시 100EP가 자동 지급됩니다.")
     @PostMapping("/register")
     public ResponseEntity<Map<String, Object>> register(@Valid @RequestBody RegisterRequest request) {
-        UserResponse userResponse = authService.register(request);
+        // 가입 보너스 원장 기록이 순번 충돌하면 가입 트랜잭션 전체를 재시도
+        UserResponse userResponse = pointMutationRetryTemplate.execute("register", () ->
+                authService.register(request));
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
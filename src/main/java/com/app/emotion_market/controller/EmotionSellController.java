@@ -3,13 +3,16 @@ package com.app.emotion_market.controller;
 import com.app.emotion_market.dto.request.emotion.EmotionSaleRequest;
 import com.app.emotion_market.dto.response.common.ApiResponse;
 import com.app.emotion_market.dto.response.emotion.EmotionSaleResponse;
-import com.app.emotion_market.enumType.EmotionType;
-import com.app.emotion_market.enumType.LocationType;
-import com.app.emotion_market.entity.User;
+import com.app.emotion_market.enums.EmotionType;
+import com.app.emotion_market.enums.LocationType;
 import com.app.emotion_market.entity.UserEmotion;
 import com.app.emotion_market.service.EmotionSellService;
-import com.app.emotion_market.service.UserService;
+import com.app.emotion_market.service.IdempotencyService;
+import com.app.emotion_market.service.PointBalanceService;
+import com.app.emotion_market.service.PointMutationRetryTemplate;
+import com.app.emotion_market.service.UserLockExecutor;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +35,10 @@ import java.util.List;
 public class EmotionSellController {
 
     private final EmotionSellService emotionSellService;
-    private final UserService userService;
+    private final PointBalanceService pointBalanceService;
+    private final IdempotencyService idempotencyService;
+    private final UserLockExecutor userLockExecutor;
+    private final PointMutationRetryTemplate pointMutationRetryTemplate;
 
     /**
      * 감정 판매
@@ -41,13 +47,19 @@ public class EmotionSellController {
     @Operation(summary = "감정 판매", description = "사용자의 감정을 판매하여 포인트를 획득합니다")
     public ResponseEntity<ApiResponse<EmotionSaleResponse>> sellEmotion(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "재시도 시 같은 값을 보내면 다시 처리하지 않고 이전 응답을 반환")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody EmotionSaleRequest request) {
         
         log.info("감정 판매 요청: userId={}, emotionType={}", userDetails.getUsername(), request.getEmotionType());
 
-        try {
-            Long userId = Long.parseLong(userDetails.getUsername());
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return idempotencyService.execute(userId, "POST /api/emotions/sell", idempotencyKey, request,
+                EmotionSaleResponse.class, () -> sell(userId, request));
+    }
 
+    private ResponseEntity<ApiResponse<EmotionSaleResponse>> sell(Long userId, EmotionSaleRequest request) {
+        try {
             // 1. 일일 판매 제한 체크
             if (!emotionSellService.canSellToday(userId)) {
                 return ResponseEntity.badRequest().body(
@@ -88,21 +100,26 @@ public class EmotionSellController {
             boolean allowCreativeUse = request.getReusePermission() != null && 
                                      request.getReusePermission().isAllowCreativeUse();
 
-            // 6. 감정 판매 처리 (기존 Service 메서드 사용)
-            UserEmotion userEmotion = emotionSellService.sellEmotion(
-                userId, 
-                emotionType, 
-                request.getIntensity(),
-                request.getStory(),
-                locationType,
-                tags,
-                allowResale,
-                allowCreativeUse
+            // 6. 감정 판매 처리 (같은 사용자의 판매는 순서대로, 포인트 버전 충돌 시 재시도)
+            LocationType location = locationType;
+            String[] emotionTags = tags;
+            UserEmotion userEmotion = userLockExecutor.execute(userId, () ->
+                pointMutationRetryTemplate.execute("emotion-sale", () ->
+                    emotionSellService.sellEmotion(
+                        userId, 
+                        emotionType, 
+                        request.getIntensity(),
+                        request.getStory(),
+                        location,
+                        emotionTags,
+                        allowResale,
+                        allowCreativeUse
+                    )
+                )
             );
 
-            // 7. 사용자 최신 정보 조회
-            User user = userService.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+            // 7. 최신 포인트 잔액 조회 (메모리 캐시)
+            Integer newPointBalance = pointBalanceService.getBalance(userId);
 
             // 8. 남은 판매 횟수 계산
             int remainingSales = emotionSellService.getRemainingDailySales(userId);
@@ -114,7 +131,7 @@ public class EmotionSellController {
                     .intensity(userEmotion.getIntensity())
                     .pointsEarned(userEmotion.getPointsEarned())
                     .bonusDetails(parseBonusDetails(userEmotion.getBonusDetails()))
-                    .newPointBalance(user.getPoints())
+                    .newPointBalance(newPointBalance)
                     .remainingSalesToday(remainingSales)
                     .createdAt(userEmotion.getCreatedAt())
                     .build();
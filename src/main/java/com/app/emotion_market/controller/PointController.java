@@ -1,13 +1,16 @@
 package com.app.emotion_market.controller;
 
 import com.app.emotion_market.dto.response.common.ApiResponse;
+import com.app.emotion_market.dto.response.common.CursorPageResponse;
 import com.app.emotion_market.dto.response.point.PointBalanceResponse;
+import com.app.emotion_market.dto.response.point.PointStatisticsResponse;
 import com.app.emotion_market.dto.response.point.PointTransactionResponse;
 import com.app.emotion_market.entity.PointTransaction;
-import com.app.emotion_market.enumType.RelatedType;
-import com.app.emotion_market.entity.User;
+import com.app.emotion_market.entity.UserPointSummary;
+import com.app.emotion_market.enums.RelatedType;
+import com.app.emotion_market.service.PointBalanceService;
+import com.app.emotion_market.service.PointHistoryExporter;
 import com.app.emotion_market.service.PointTransactionService;
-import com.app.emotion_market.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,13 +21,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 포인트 관리 API 컨트롤러
@@ -37,7 +45,8 @@ import java.time.LocalDateTime;
 public class PointController {
 
     private final PointTransactionService pointTransactionService;
-    private final UserService userService;
+    private final PointBalanceService pointBalanceService;
+    private final PointHistoryExporter pointHistoryExporter;
 
     /**
      * 포인트 잔액 조회
@@ -49,18 +58,17 @@ public class PointController {
         
         try {
             Long userId = Long.parseLong(userDetails.getUsername());
-            
-            User user = userService.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-            // 포인트 통계 조회
-            Integer totalEarned = pointTransactionService.getTotalEarnedPoints(userId);
-            Integer totalSpent = pointTransactionService.getTotalSpentPoints(userId);
+            // 현재 잔액 (메모리 캐시)
+            Integer currentBalance = pointBalanceService.getBalance(userId);
+
+            // 누적 요약 조회 (PK 조회 1회)
+            Optional<UserPointSummary> summary = pointTransactionService.getPointSummary(userId);
 
             PointBalanceResponse response = PointBalanceResponse.builder()
-                    .currentBalance(user.getPoints())
-                    .totalEarned(totalEarned != null ? totalEarned : 0)
-                    .totalSpent(Math.abs(totalSpent != null ? totalSpent : 0))
+                    .currentBalance(currentBalance)
+                    .totalEarned(summary.map(UserPointSummary::getTotalEarned).map(Long::intValue).orElse(0))
+                    .totalSpent(summary.map(UserPointSummary::getTotalSpent).map(Long::intValue).orElse(0))
                     .pendingPoints(0) // MVP에서는 보류 포인트 없음
                     .build();
 
@@ -117,6 +125,118 @@ public class PointController {
         }
     }
 
+    /**
+     * 포인트 기간 통계 조회 (일별 집계 기준)
+     */
+    @GetMapping("/statistics")
+    @Operation(summary = "포인트 통계", description = "기간별 포인트 획득/사용 통계를 조회합니다 (기본 최근 30일)")
+    public ResponseEntity<ApiResponse<PointStatisticsResponse>> getPointStatistics(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "시작 날짜", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        try {
+            Long userId = Long.parseLong(userDetails.getUsername());
+
+            LocalDate end = endDate != null ? endDate : LocalDate.now();
+            LocalDate start = startDate != null ? startDate : end.minusDays(29);
+            if (start.isAfter(end)) {
+                throw new IllegalArgumentException("시작 날짜가 종료 날짜보다 늦을 수 없습니다");
+            }
+
+            PointStatisticsResponse response = pointTransactionService.getPointStatistics(userId, start, end);
+
+            return ResponseEntity.ok(ApiResponse.success("포인트 통계를 조회했습니다", response));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("포인트 통계 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        } catch (Exception e) {
+            log.error("포인트 통계 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.failure("포인트 통계 조회 중 오류가 발생했습니다")
+            );
+        }
+    }
+
+    /**
+     * 포인트 거래 내역 전체 내보내기 (응답 스트림에 바로 기록)
+     */
+    @GetMapping("/transactions/export")
+    @Operation(summary = "포인트 거래 내역 내보내기", description = "전체 포인트 거래 내역을 NDJSON 또는 CSV로 내려받습니다")
+    public ResponseEntity<StreamingResponseBody> exportPointTransactions(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "내보내기 형식 (NDJSON, CSV)", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") PointHistoryExporter.Format format,
+            @Parameter(description = "gzip 압축 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                pointHistoryExporter.export(userId, format, gzipOut);
+                gzipOut.finish();
+            } else {
+                pointHistoryExporter.export(userId, format, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"point-transactions." + format.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * 포인트 거래 내역 커서 기반 조회
+     */
+    @GetMapping("/transactions/cursor")
+    @Operation(summary = "포인트 거래 내역 (커서)", description = "커서 기반으로 포인트 거래 내역을 조회합니다 (전체 개수 미제공)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PointTransactionResponse>>> getPointTransactionsByCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "거래 유형 필터", example = "EMOTION_SALE")
+            @RequestParam(required = false) RelatedType type,
+            @Parameter(description = "시작 날짜", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        try {
+            Long userId = Long.parseLong(userDetails.getUsername());
+
+            // 날짜 범위 설정
+            LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
+            LocalDateTime endDateTime = endDate != null ? endDate.atTime(23, 59, 59) : null;
+
+            CursorPageResponse<PointTransactionResponse> response = pointTransactionService
+                    .findUserTransactionsByCursor(userId, type, startDateTime, endDateTime, cursor, Math.min(Math.max(size, 1), 100))
+                    .map(this::convertToTransactionResponse);
+
+            return ResponseEntity.ok(ApiResponse.success("포인트 거래 내역을 조회했습니다", response));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("포인트 거래 내역 커서 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        } catch (Exception e) {
+            log.error("포인트 거래 내역 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.failure("포인트 거래 내역 조회 중 오류가 발생했습니다")
+            );
+        }
+    }
+
     /**
      * PointTransaction을 PointTransactionResponse로 변환
      */
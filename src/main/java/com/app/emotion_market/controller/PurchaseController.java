@@ -6,8 +6,12 @@ import com.app.emotion_market.dto.response.common.ApiResponse;
 import com.app.emotion_market.dto.response.purchase.PurchaseResponse;
 import com.app.emotion_market.dto.response.purchase.ContentResponse;
 import com.app.emotion_market.entity.Purchase;
+import com.app.emotion_market.enums.PurchaseStatus;
+import com.app.emotion_market.service.EmotionContentService;
+import com.app.emotion_market.service.IdempotencyService;
+import com.app.emotion_market.service.PointMutationRetryTemplate;
 import com.app.emotion_market.service.PurchaseService;
-import com.app.emotion_market.service.UserService;
+import com.app.emotion_market.service.UserLockExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,7 +41,10 @@ import java.util.Optional;
 public class PurchaseController {
 
     private final PurchaseService purchaseService;
-    private final UserService userService;
+    private final EmotionContentService emotionContentService;
+    private final IdempotencyService idempotencyService;
+    private final UserLockExecutor userLockExecutor;
+    private final PointMutationRetryTemplate pointMutationRetryTemplate;
 
     /**
      * 감정 구매
@@ -46,41 +53,54 @@ public class PurchaseController {
     @Operation(summary = "감정 구매", description = "감정 상품을 구매합니다")
     public ResponseEntity<ApiResponse<PurchaseResponse>> purchaseEmotion(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "재시도 시 같은 값을 보내면 다시 처리하지 않고 이전 응답을 반환")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody PurchaseRequest request) {
         
         log.info("감정 구매 요청: userId={}, emotionId={}", userDetails.getUsername(), request.getEmotionId());
 
-        try {
-            Long userId = Long.parseLong(userDetails.getUsername());
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return idempotencyService.execute(userId, "POST /api/purchases", idempotencyKey, request,
+                PurchaseResponse.class, () -> purchase(userId, request));
+    }
 
-            // 구매 처리
-            Purchase purchase = purchaseService.purchaseEmotion(
-                userId, 
-                request.getEmotionId(), 
-                request.getPurchaseMessage()
+    private ResponseEntity<ApiResponse<PurchaseResponse>> purchase(Long userId, PurchaseRequest request) {
+        try {
+            // 구매 처리 (차감/중복 검사/구매 기록이 한 번에 처리됨)
+            // 같은 사용자의 구매는 순서대로 처리 (다른 서버와 원장 순번이 충돌하면 재시도)
+            PurchaseService.PurchaseResult result = userLockExecutor.execute(userId, () ->
+                pointMutationRetryTemplate.execute("emotion-purchase", () ->
+                    purchaseService.purchaseEmotion(
+                        userId, 
+                        request.getEmotionId(), 
+                        request.getPurchaseMessage()
+                    )
+                )
             );
 
-            // 사용자 최신 정보 조회
-            var user = userService.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+            if (!result.isSuccess()) {
+                log.warn("감정 구매 실패: userId={}, emotionId={}, outcome={}", 
+                        userId, request.getEmotionId(), result.getOutcome());
+                return ResponseEntity.badRequest().body(ApiResponse.failure(result.getMessage()));
+            }
 
             // 응답 생성
             PurchaseResponse response = PurchaseResponse.builder()
-                    .purchaseId(purchase.getId())
-                    .emotionId(purchase.getEmotion().getId())
-                    .emotionName(purchase.getEmotion().getName())
-                    .emotionType(purchase.getEmotion().getEmotionType())
-                    .price(purchase.getPointsSpent())
-                    .newPointBalance(user.getPoints())
-                    .purchasedAt(purchase.getCreatedAt())
-                    .expiresAt(purchase.getExpiresAt())
-                    .status(purchase.getStatus())
+                    .purchaseId(result.getPurchaseId())
+                    .emotionId(result.getEmotionId())
+                    .emotionName(result.getEmotionName())
+                    .emotionType(result.getEmotionType())
+                    .price(result.getPointsSpent())
+                    .newPointBalance(result.getBalanceAfter())
+                    .purchasedAt(result.getPurchasedAt())
+                    .expiresAt(result.getExpiresAt())
+                    .status(PurchaseStatus.ACTIVE)
                     .build();
 
             log.info("감정 구매 완료: purchaseId={}, userId={}, emotionId={}, price={}", 
-                    purchase.getId(), userId, request.getEmotionId(), purchase.getPointsSpent());
+                    result.getPurchaseId(), userId, request.getEmotionId(), result.getPointsSpent());
 
-            return ResponseEntity.ok(ApiResponse.success("감정을 성공적으로 구매했습니다", response));
+            return ResponseEntity.ok(ApiResponse.success(result.getMessage(), response));
 
         } catch (IllegalStateException e) {
             log.warn("감정 구매 실패 - 상태 오류: {}", e.getMessage());
@@ -195,32 +215,25 @@ public class PurchaseController {
         try {
             Long userId = Long.parseLong(userDetails.getUsername());
             
-            // 콘텐츠 접근 권한 체크
-            if (!purchaseService.canAccessContent(userId, purchaseId)) {
+            // 접근 권한 확인과 접근 기록을 한 번에 처리
+            Optional<PurchaseService.ContentAccess> accessOpt = purchaseService.accessContent(userId, purchaseId);
+            if (accessOpt.isEmpty()) {
                 return ResponseEntity.badRequest().body(
                     ApiResponse.failure("콘텐츠 이용 기간이 만료되었거나 접근 권한이 없습니다")
                 );
             }
 
-            // 구매 정보 조회
-            Optional<Purchase> purchaseOpt = purchaseService.findUserPurchase(userId, purchaseId);
-            if (purchaseOpt.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            Purchase purchase = purchaseOpt.get();
-
-            // 콘텐츠 접근 기록
-            purchaseService.recordContentAccess(userId, purchaseId);
+            PurchaseService.ContentAccess access = accessOpt.get();
 
-            // 콘텐츠 응답 생성 (실제로는 JSON 파싱 필요)
+            // 콘텐츠 응답 생성 (파싱 결과는 콘텐츠 버전별로 캐시)
             ContentResponse response = ContentResponse.builder()
-                    .purchaseId(purchase.getId())
-                    .emotionName(purchase.getEmotion().getName())
-                    .emotionType(purchase.getEmotion().getEmotionType())
-                    .purchasedAt(purchase.getCreatedAt())
-                    .expiresAt(purchase.getExpiresAt())
-                    .accessCount(purchase.getAccessCount() + 1)
+                    .purchaseId(access.getPurchaseId())
+                    .emotionName(access.getEmotionName())
+                    .emotionType(access.getEmotionType())
+                    .purchasedAt(access.getPurchasedAt())
+                    .expiresAt(access.getExpiresAt())
+                    .accessCount(access.getAccessCount())
+                    .contents(emotionContentService.getContents(access.getEmotionId(), access.getContentsVersion()))
                     .build();
 
             return ResponseEntity.ok(ApiResponse.success("구매한 콘텐츠를 조회했습니다", response));
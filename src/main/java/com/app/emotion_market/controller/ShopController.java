@@ -1,12 +1,16 @@
 package com.app.emotion_market.controller;
 
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
 import com.app.emotion_market.dto.response.common.ApiResponse;
 import com.app.emotion_market.dto.response.shop.ShopItemResponse;
 import com.app.emotion_market.dto.response.shop.CategoryResponse;
-import com.app.emotion_market.enumType.EmotionType;
-import com.app.emotion_market.entity.SystemEmotion;
-import com.app.emotion_market.service.SystemEmotionService;
+import com.app.emotion_market.enums.EmotionType;
 import com.app.emotion_market.service.EmotionCategoryService;
+import com.app.emotion_market.service.SystemEmotionService;
+import com.app.emotion_market.service.catalog.BestEmotionRankingService;
+import com.app.emotion_market.service.catalog.CatalogItem;
+import com.app.emotion_market.service.catalog.CatalogSort;
+import com.app.emotion_market.service.catalog.EmotionCatalogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,8 +18,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,6 +35,8 @@ import java.util.Optional;
 public class ShopController {
 
     private final SystemEmotionService systemEmotionService;
+    private final EmotionCatalogService emotionCatalogService;
+    private final BestEmotionRankingService bestEmotionRankingService;
     private final EmotionCategoryService emotionCategoryService;
 
     /**
@@ -71,13 +75,13 @@ public class ShopController {
      * 오늘의 베스트 감정 조회
      */
     @GetMapping("/best")
-    @Operation(summary = "오늘의 베스트 감정", description = "오늘의 인기 감정 상품을 조회합니다")
+    @Operation(summary = "오늘의 베스트 감정", description = "최근 24시간 구매 수 기준 인기 감정 상품을 조회합니다")
     public ResponseEntity<ApiResponse<List<ShopItemResponse>>> getTodaysBest(
             @Parameter(description = "조회할 개수", example = "4")
             @RequestParam(defaultValue = "4") int limit) {
         
         try {
-            List<SystemEmotion> bestEmotions = systemEmotionService.findTodaysBestEmotions(limit);
+            List<CatalogItem> bestEmotions = bestEmotionRankingService.findTodaysBest(limit);
             
             List<ShopItemResponse> response = bestEmotions.stream()
                     .map(this::convertToShopItemResponse)
@@ -109,10 +113,8 @@ public class ShopController {
             @RequestParam(defaultValue = "popularity") String sort) {
         
         try {
-            Sort sortOrder = getSortOrder(sort);
-            Pageable pageable = PageRequest.of(page, size, sortOrder);
-            
-            Page<SystemEmotion> emotionsPage = systemEmotionService.findEmotionsByCategory(categoryId, pageable);
+            Page<CatalogItem> emotionsPage = emotionCatalogService.findByCategory(
+                    categoryId, CatalogSort.from(sort), PageRequest.of(page, size));
             
             Page<ShopItemResponse> response = emotionsPage.map(this::convertToShopItemResponse);
 
@@ -136,7 +138,7 @@ public class ShopController {
             @PathVariable Long emotionId) {
         
         try {
-            Optional<SystemEmotion> emotionOpt = systemEmotionService.findEmotionById(emotionId);
+            Optional<CatalogItem> emotionOpt = emotionCatalogService.findById(emotionId);
             
             if (emotionOpt.isEmpty()) {
                 return ResponseEntity.notFound().build();
@@ -158,49 +160,45 @@ public class ShopController {
      * 감정 검색
      */
     @GetMapping("/search")
-    @Operation(summary = "감정 검색", description = "키워드로 감정 상품을 검색합니다")
-    public ResponseEntity<ApiResponse<List<ShopItemResponse>>> searchEmotions(
+    @Operation(summary = "감정 검색", description = "키워드로 감정 상품을 검색합니다 (이름, 설명, 감정 유형)")
+    public ResponseEntity<ApiResponse<Page<ShopItemResponse>>> searchEmotions(
             @Parameter(description = "검색 키워드", example = "기쁨")
             @RequestParam String keyword,
+            @Parameter(description = "카테고리 ID", example = "1")
+            @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "감정 유형", example = "JOY")
+            @RequestParam(required = false) EmotionType emotionType,
             @Parameter(description = "최소 가격", example = "20")
             @RequestParam(required = false) Integer minPrice,
             @Parameter(description = "최대 가격", example = "50")
             @RequestParam(required = false) Integer maxPrice,
             @Parameter(description = "최소 평점", example = "4.0")
-            @RequestParam(required = false) Double minRating) {
+            @RequestParam(required = false) Double minRating,
+            @Parameter(description = "페이지 번호", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "12")
+            @RequestParam(defaultValue = "12") int size) {
         
         try {
-            List<SystemEmotion> emotions;
-
-            // 키워드 검색
-            emotions = systemEmotionService.searchEmotionsByName(keyword);
-
-            // 가격 필터링
-            if (minPrice != null || maxPrice != null) {
-                emotions = emotions.stream()
-                        .filter(emotion -> {
-                            int price = emotion.getPrice();
-                            boolean priceMatch = true;
-                            if (minPrice != null) priceMatch &= price >= minPrice;
-                            if (maxPrice != null) priceMatch &= price <= maxPrice;
-                            return priceMatch;
-                        })
-                        .toList();
-            }
+            ShopSearchCondition condition = ShopSearchCondition.builder()
+                    .keyword(keyword)
+                    .categoryId(categoryId)
+                    .emotionType(emotionType)
+                    .minPrice(minPrice)
+                    .maxPrice(maxPrice)
+                    .minRating(minRating)
+                    .build();
 
-            // 평점 필터링
-            if (minRating != null) {
-                emotions = emotions.stream()
-                        .filter(emotion -> emotion.getAverageRating() >= minRating)
-                        .toList();
-            }
+            PageRequest pageable = PageRequest.of(page, size);
 
-            List<ShopItemResponse> response = emotions.stream()
-                    .map(this::convertToShopItemResponse)
-                    .toList();
+            // 카탈로그 스냅샷이 적재되기 전에는 같은 규칙의 DB 검색 쿼리로 처리
+            Page<CatalogItem> items = emotionCatalogService.isReady()
+                    ? emotionCatalogService.search(condition, pageable)
+                    : systemEmotionService.searchCatalogItems(condition, pageable);
+            Page<ShopItemResponse> response = items.map(this::convertToShopItemResponse);
 
             return ResponseEntity.ok(ApiResponse.success(
-                String.format("'%s' 검색 결과 %d건을 조회했습니다", keyword, response.size()), 
+                String.format("'%s' 검색 결과 %d건을 조회했습니다", keyword, response.getTotalElements()), 
                 response
             ));
 
@@ -222,7 +220,7 @@ public class ShopController {
             @RequestParam(defaultValue = "10") int limit) {
         
         try {
-            List<SystemEmotion> popularEmotions = systemEmotionService.findPopularEmotions(limit);
+            List<CatalogItem> popularEmotions = emotionCatalogService.findTop(CatalogSort.POPULARITY, limit);
             
             List<ShopItemResponse> response = popularEmotions.stream()
                     .map(this::convertToShopItemResponse)
@@ -248,7 +246,7 @@ public class ShopController {
             @RequestParam(defaultValue = "4") int limit) {
         
         try {
-            List<SystemEmotion> recommendedEmotions = systemEmotionService.findRecommendedEmotions(limit);
+            List<CatalogItem> recommendedEmotions = emotionCatalogService.findTop(CatalogSort.RATING, limit);
             
             List<ShopItemResponse> response = recommendedEmotions.stream()
                     .map(this::convertToShopItemResponse)
@@ -265,36 +263,22 @@ public class ShopController {
     }
 
     /**
-     * SystemEmotion을 ShopItemResponse로 변환
+     * CatalogItem을 ShopItemResponse로 변환
      */
-    private ShopItemResponse convertToShopItemResponse(SystemEmotion emotion) {
+    private ShopItemResponse convertToShopItemResponse(CatalogItem emotion) {
         return ShopItemResponse.builder()
-                .emotionId(emotion.getId())
-                .emotionType(emotion.getEmotionType())
-                .name(emotion.getName())
-                .description(emotion.getDescription())
-                .price(emotion.getPrice())
-                .averageRating(emotion.getAverageRating())
-                .totalPurchases(emotion.getTotalPurchases())
-                .emoji(getEmojiForEmotionType(emotion.getEmotionType()))
-                .contentPreview(parseContentPreview(emotion.getContents()))
+                .emotionId(emotion.id())
+                .emotionType(emotion.emotionType())
+                .name(emotion.name())
+                .description(emotion.description())
+                .price(emotion.price())
+                .averageRating(emotion.rating())
+                .totalPurchases(emotion.totalPurchases())
+                .emoji(getEmojiForEmotionType(emotion.emotionType()))
+                .contentPreview(toContentPreview(emotion))
                 .build();
     }
 
-    /**
-     * 정렬 기준 변환
-     */
-    private Sort getSortOrder(String sort) {
-        return switch (sort.toLowerCase()) {
-            case "price_asc" -> Sort.by("price").ascending();
-            case "price_desc" -> Sort.by("price").descending();
-            case "rating" -> Sort.by("averageRating").descending();
-            case "name" -> Sort.by("name").ascending();
-            case "popularity" -> Sort.by("totalPurchases").descending();
-            default -> Sort.by("totalPurchases").descending(); // 기본값: 인기순
-        };
-    }
-
     /**
      * 카테고리 이름에 따른 이모지 반환
      */
@@ -330,25 +314,14 @@ public class ShopController {
     }
 
     /**
-     * 콘텐츠 미리보기 파싱
+     * 저장 시 계산해 둔 미리보기 문구 사용 (목록 조회에서는 contents를 적재하지 않음)
      */
-    private ShopItemResponse.ContentPreview parseContentPreview(String contentsJson) {
-        // 간단한 JSON 파싱 (실제로는 Jackson 등을 사용하는 것이 좋음)
-        try {
-            return ShopItemResponse.ContentPreview.builder()
-                    .music("신나는 플레이리스트 5곡")
-                    .video("감정 체험 영상 3분")
-                    .text("긍정 에너지 명언 5개")
-                    .guide("실천 가이드 3단계")
-                    .build();
-        } catch (Exception e) {
-            log.warn("콘텐츠 미리보기 파싱 실패: {}", contentsJson, e);
-            return ShopItemResponse.ContentPreview.builder()
-                    .music("음악 콘텐츠")
-                    .video("영상 콘텐츠")
-                    .text("텍스트 콘텐츠")
-                    .guide("실천 가이드")
-                    .build();
-        }
+    private ShopItemResponse.ContentPreview toContentPreview(CatalogItem emotion) {
+        return ShopItemResponse.ContentPreview.builder()
+                .music(emotion.previewMusic())
+                .video(emotion.previewVideo())
+                .text(emotion.previewText())
+                .guide(emotion.previewGuide())
+                .build();
     }
 }
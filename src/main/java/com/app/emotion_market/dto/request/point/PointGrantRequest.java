@@ -0,0 +1,49 @@
+package com.app.emotion_market.dto.request.point;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 포인트 일괄 지급 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "포인트 일괄 지급 요청")
+public class PointGrantRequest {
+
+    @NotBlank(message = "캠페인 키는 필수입니다")
+    @Size(max = 100, message = "캠페인 키는 최대 100자까지 입력 가능합니다")
+    @Schema(description = "캠페인 키 (같은 키로 다시 요청하면 중단된 지점부터 재개하며 중복 지급하지 않음)",
+            example = "2025-chuseok-double", required = true)
+    private String campaignKey;
+
+    @NotBlank(message = "지급 사유는 필수입니다")
+    @Size(max = 200, message = "지급 사유는 최대 200자까지 입력 가능합니다")
+    @Schema(description = "거래 내역에 표시할 지급 사유", example = "추석 더블 포인트 이벤트", required = true)
+    private String description;
+
+    @Schema(description = "이벤트 유형 (DOUBLE_POINTS, WEEKEND_BONUS, FIRST_SALE) - 지정 시 basePoints로 지급액 계산",
+            example = "DOUBLE_POINTS")
+    private String eventType;
+
+    @Positive(message = "기준 포인트는 1 이상이어야 합니다")
+    @Schema(description = "이벤트 유형의 기준 포인트", example = "20")
+    private Integer basePoints;
+
+    @Positive(message = "지급 포인트는 1 이상이어야 합니다")
+    @Schema(description = "고정 지급 포인트 (eventType이 없을 때 사용)", example = "50")
+    private Integer amount;
+
+    @Schema(description = "지급 대상 사용자 ID 목록 (없으면 전체 활성 사용자)")
+    private List<Long> userIds;
+}
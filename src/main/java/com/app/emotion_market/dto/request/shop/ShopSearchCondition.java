@@ -0,0 +1,37 @@
+package com.app.emotion_market.dto.request.shop;
+
+import com.app.emotion_market.enums.EmotionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상점 감정 검색 조건
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상점 감정 검색 조건")
+public class ShopSearchCondition {
+
+    @Schema(description = "검색 키워드 (이름, 설명, 감정 유형)", example = "기쁨")
+    private String keyword;
+
+    @Schema(description = "카테고리 ID", example = "1")
+    private Long categoryId;
+
+    @Schema(description = "감정 유형", example = "JOY")
+    private EmotionType emotionType;
+
+    @Schema(description = "최소 가격", example = "20")
+    private Integer minPrice;
+
+    @Schema(description = "최대 가격", example = "50")
+    private Integer maxPrice;
+
+    @Schema(description = "최소 평점", example = "4.0")
+    private Double minRating;
+}
@@ -0,0 +1,42 @@
+package com.app.emotion_market.dto.response.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 DTO (전체 개수 조회 없음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "페이지 데이터")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNC0wMS0xNVQxMDozMDowMHw3ODk")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "요청한 페이지 크기", example = "20")
+    private int size;
+
+    public <R> CursorPageResponse<R> map(Function<? super T, ? extends R> converter) {
+        return CursorPageResponse.<R>builder()
+                .content(content.stream().<R>map(converter).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+}
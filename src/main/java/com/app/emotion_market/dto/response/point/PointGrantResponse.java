@@ -0,0 +1,39 @@
+package com.app.emotion_market.dto.response.point;
+
+import com.app.emotion_market.enums.PointGrantStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 일괄 지급 진행 현황 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "포인트 일괄 지급 진행 현황")
+public class PointGrantResponse {
+
+    @Schema(description = "캠페인 키", example = "2025-chuseok-double")
+    private String campaignKey;
+
+    @Schema(description = "진행 상태", example = "RUNNING")
+    private PointGrantStatus status;
+
+    @Schema(description = "사용자 1명당 지급 포인트", example = "20")
+    private Integer amount;
+
+    @Schema(description = "지급 완료 사용자 수", example = "15000")
+    private Long grantedCount;
+
+    @Schema(description = "처리가 끝난 마지막 사용자 ID", example = "15230")
+    private Long checkpointUserId;
+
+    @Schema(description = "마지막 진행 시각")
+    private LocalDateTime updatedAt;
+}
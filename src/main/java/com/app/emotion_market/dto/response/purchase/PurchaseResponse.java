@@ -1,7 +1,7 @@
 package com.app.emotion_market.dto.response.purchase;
 
-import com.app.emotion_market.enumType.EmotionType;
-import com.app.emotion_market.enumType.PurchaseStatus;
+import com.app.emotion_market.enums.EmotionType;
+import com.app.emotion_market.enums.PurchaseStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
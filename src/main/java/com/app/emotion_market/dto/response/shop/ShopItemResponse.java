@@ -1,6 +1,6 @@
 package com.app.emotion_market.dto.response.shop;
 
-import com.app.emotion_market.enumType.EmotionType;
+import com.app.emotion_market.enums.EmotionType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
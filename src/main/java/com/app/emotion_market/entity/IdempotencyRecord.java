@@ -0,0 +1,61 @@
+package com.app.emotion_market.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키별 처리 결과
+ * 처음 요청이 들어오면 httpStatus 없이 선점 행을 만들고, 처리가 끝나면 응답 본문을 저장해 재시도에 그대로 돌려줌
+ * 선점은 lockedUntil까지만 유효하므로 처리 중 서버가 죽어도 그 이후 재시도가 선점을 넘겨받음 (응답 보관 기간 expiresAt과 별개)
+ * 업무 쓰기와 같은 트랜잭션에서 applied를 표시하므로, 업무 쓰기가 커밋된 선점은 응답 저장 전에 서버가 죽거나 기한이 지나도 넘겨받지 않음
+ */
+@Entity
+@Table(name = "idempotency_records",
+       uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_records_key",
+                                             columnNames = {"user_id", "endpoint", "idempotency_key"}),
+       indexes = @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String endpoint;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    // 처리 중이면 null
+    private Integer httpStatus;
+
+    // 처리 중 선점 만료 시각 (완료되면 null)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 업무 쓰기가 이 선점으로 커밋됨 (넘겨받기/해제 불가)
+    @Column(nullable = false)
+    private Boolean applied = false;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    // 선점 시각 (선점을 넘겨받으면 바뀌므로 완료/해제 시 소유 확인에 사용)
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
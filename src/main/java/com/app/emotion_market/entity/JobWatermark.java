@@ -0,0 +1,29 @@
+package com.app.emotion_market.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 위치
+ * 작업별로 처리가 끝난 마지막 ID를 보관해 다음 실행 때 그 이후부터 처리
+ */
+@Entity
+@Table(name = "job_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobWatermark {
+
+    @Id
+    @Column(length = 50)
+    private String jobName;
+
+    @Column(nullable = false)
+    private Long lastId = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.app.emotion_market.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 잔액 스냅샷
+ * sequenceNo까지의 원장 거래를 반영한 잔액으로, 현재 잔액은 스냅샷 잔액 + 이후 거래 금액 합계
+ * 원장 모드 전환 시 users.points를 sequenceNo 0의 시작 잔액으로 적재
+ */
+@Entity
+@Table(name = "point_balance_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBalanceSnapshot {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long sequenceNo = 0L;
+
+    @Column(nullable = false)
+    private Long balance = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
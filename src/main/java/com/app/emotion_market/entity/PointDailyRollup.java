@@ -0,0 +1,31 @@
+package com.app.emotion_market.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 일별/거래 유형별 포인트 집계
+ * 포인트 거래가 기록될 때 같은 트랜잭션에서 증분 갱신되며, 통계 조회는 원본 거래 대신 이 테이블을 읽음
+ */
+@Entity
+@Table(name = "point_daily_rollups", indexes = {
+        @Index(name = "idx_point_daily_rollups_date_type", columnList = "stat_date, transaction_type")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointDailyRollup {
+
+    @EmbeddedId
+    private PointDailyRollupId id;
+
+    @Column(nullable = false)
+    private Long earned = 0L; // 양수 거래 금액 합계
+
+    @Column(nullable = false)
+    private Long spent = 0L; // 음수 거래 금액 합계 (절댓값)
+
+    @Column(nullable = false)
+    private Long transactionCount = 0L;
+}
@@ -0,0 +1,77 @@
+package com.app.emotion_market.entity;
+
+import com.app.emotion_market.enums.PointGrantStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 일괄 지급 캠페인
+ * 대상 사용자를 ID 오름차순으로 청크 단위 지급하며, 청크마다 지급과 같은 트랜잭션에서 체크포인트를 전진시켜 중단 지점부터 재개
+ * 지급 거래는 (related_type = EVENT, related_id = 캠페인 ID)로 기록되어 같은 사용자에게 두 번 지급되지 않음
+ */
+@Entity
+@Table(name = "point_grant_campaigns")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointGrantCampaign {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String campaignKey;
+
+    @Column(nullable = false, length = 200)
+    private String description;
+
+    @Column(length = 50)
+    private String eventType; // 금액 규칙 (PointCalculator.calculateEventBonus), 고정 금액 지급이면 null
+
+    @Column(nullable = false)
+    private Integer amount; // 사용자 1명당 지급 포인트
+
+    @Column(nullable = false)
+    private Boolean allActiveUsers;
+
+    @Column(length = 64)
+    private String targetsHash; // 지정 대상 목록(중복 제거, 오름차순)의 SHA-256, 전체 활성 사용자 대상이면 null
+
+    @Column(length = 20, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PointGrantStatus status = PointGrantStatus.RUNNING;
+
+    @Column(nullable = false)
+    private Long checkpointUserId = 0L; // 처리가 끝난 마지막 사용자 ID
+
+    @Column(nullable = false)
+    private Long grantedCount = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PointGrantCampaign(String campaignKey, String description, String eventType,
+                              Integer amount, Boolean allActiveUsers, String targetsHash) {
+        this.campaignKey = campaignKey;
+        this.description = description;
+        this.eventType = eventType;
+        this.amount = amount;
+        this.allActiveUsers = allActiveUsers;
+        this.targetsHash = targetsHash;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public boolean isCompleted() {
+        return this.status == PointGrantStatus.COMPLETED;
+    }
+}
@@ -12,11 +12,18 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "point_transactions")
+@Table(name = "point_transactions", indexes = {
+        @Index(name = "idx_point_transactions_user_created_id", columnList = "user_id, created_at DESC, id DESC")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = PointTransaction.SEQUENCE_CONSTRAINT, columnNames = {"user_id", "sequence_no"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointTransaction {
 
+    // 원장 순번 유일 제약 (같은 사용자의 동시 원장 추가 충돌 감지)
+    public static final String SEQUENCE_CONSTRAINT = "uk_point_transactions_user_sequence";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,6 +51,9 @@ public class PointTransaction {
     @Column(nullable = false)
     private Integer balanceAfter; // 거래 후 잔액
 
+    @Column(name = "sequence_no")
+    private Long sequenceNo; // 원장 모드에서 사용자별 1씩 증가하는 순번 (기존 방식으로 기록된 거래는 null)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -52,6 +52,9 @@ public class Purchase {
     @Column(nullable = false)
     private LocalDateTime expiresAt; // 구매일 + 7일
 
+    @Column(nullable = false)
+    private Integer expiryNoticeLevel = 0; // 발송한 만료 알림 단계 (0: 없음, 1: 만료 임박, 2: 만료)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -1,6 +1,7 @@
 package com.app.emotion_market.entity;
 
-import com.app.emotion_market.enumType.EmotionType;
+import com.app.emotion_market.common.util.ContentPreviewGenerator;
+import com.app.emotion_market.enums.EmotionType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,6 +19,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SystemEmotion {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,12 +47,34 @@ public class SystemEmotion {
     @Column(precision = 3, scale = 2)
     private BigDecimal averageRating = BigDecimal.ZERO;
 
+    @Column(nullable = false)
+    private Long ratingSum = 0L; // 평점 합계 (리뷰 작성/수정 시 증분 갱신)
+
+    @Column(nullable = false)
+    private Integer ratingCount = 0; // 평점을 남긴 구매 수
+
     @Column(nullable = false)
     private Integer totalPurchases = 0;
 
     @Column(nullable = false, columnDefinition = "jsonb")
     private String contents; // JSON 형태로 콘텐츠 저장
 
+    @Column(nullable = false)
+    private Integer contentsVersion = 0; // 콘텐츠 변경 시 증가 (파싱 캐시 키)
+
+    // 목록 조회용 콘텐츠 미리보기 (contents 저장 시 계산)
+    @Column(length = PREVIEW_LENGTH)
+    private String previewMusic;
+
+    @Column(length = PREVIEW_LENGTH)
+    private String previewVideo;
+
+    @Column(length = PREVIEW_LENGTH)
+    private String previewText;
+
+    @Column(length = PREVIEW_LENGTH)
+    private String previewGuide;
+
     @Column(nullable = false)
     private Boolean isActive = true;
 
@@ -75,6 +100,7 @@ public class SystemEmotion {
         this.categoryId = categoryId;
         this.price = price;
         this.contents = contents;
+        refreshContentPreview();
         this.isActive = isActive != null ? isActive : true;
         this.sortOrder = sortOrder != null ? sortOrder : 0;
     }
@@ -98,6 +124,16 @@ public class SystemEmotion {
 
     public void updateContents(String contents) {
         this.contents = contents;
+        this.contentsVersion = this.contentsVersion + 1;
+        refreshContentPreview();
+    }
+
+    public void refreshContentPreview() {
+        ContentPreviewGenerator.Preview preview = ContentPreviewGenerator.generate(this.contents);
+        this.previewMusic = preview.music();
+        this.previewVideo = preview.video();
+        this.previewText = preview.text();
+        this.previewGuide = preview.guide();
     }
 
     public void updatePrice(Integer price) {
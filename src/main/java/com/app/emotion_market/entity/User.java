@@ -54,6 +54,10 @@ public class User {
 
     private LocalDateTime lastLoginAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L; // 포인트 등 동시 수정 감지용 (네이티브 UPDATE에서도 증가시켜야 함)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
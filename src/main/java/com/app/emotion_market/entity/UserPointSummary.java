@@ -0,0 +1,33 @@
+package com.app.emotion_market.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 포인트 누적 요약
+ * 포인트 거래가 기록될 때마다 같은 트랜잭션에서 증분 갱신됨
+ */
+@Entity
+@Table(name = "user_point_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserPointSummary {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long totalEarned = 0L;
+
+    @Column(nullable = false)
+    private Long totalSpent = 0L; // 절댓값으로 저장
+
+    @Column(nullable = false)
+    private Long transactionCount = 0L;
+
+    private LocalDateTime lastTransactionAt;
+}
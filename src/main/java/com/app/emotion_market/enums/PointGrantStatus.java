@@ -0,0 +1,9 @@
+package com.app.emotion_market.enums;
+
+/**
+ * 포인트 일괄 지급 캠페인 상태
+ */
+public enum PointGrantStatus {
+    RUNNING,    // 지급 중 (중단된 경우 같은 캠페인 키로 다시 요청하면 체크포인트부터 재개)
+    COMPLETED   // 지급 완료
+}
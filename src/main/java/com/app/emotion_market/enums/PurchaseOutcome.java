@@ -0,0 +1,22 @@
+package com.app.emotion_market.enums;
+
+/**
+ * 감정 구매 처리 결과
+ */
+public enum PurchaseOutcome {
+    SUCCESS("감정을 성공적으로 구매했습니다"),
+    INSUFFICIENT_POINTS("포인트가 부족합니다"),
+    DUPLICATE("이미 구매한 감정입니다. 7일 후 재구매 가능합니다"),
+    EMOTION_UNAVAILABLE("구매할 수 없는 감정 상품입니다"),
+    USER_NOT_FOUND("존재하지 않는 사용자입니다");
+
+    private final String message;
+
+    PurchaseOutcome(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.app.emotion_market.event;
+
+/**
+ * 감정 상품 또는 카테고리 변경 이벤트
+ * 커밋 이후 카탈로그 관련 메모리 스냅샷을 무효화하는 데 사용
+ *
+ * @param emotionId   변경된 감정 상품 ID (카테고리 변경이면 null)
+ * @param categoryId  변경된 카테고리 ID (알 수 없으면 null)
+ * @param counterOnly 구매 수, 평점 등 집계 값만 변경된 경우 true (즉시 재적재하지 않아도 되는 변경)
+ */
+public record CatalogChangedEvent(Long emotionId, Long categoryId, boolean counterOnly) {
+
+    public static CatalogChangedEvent ofEmotion(Long emotionId) {
+        return new CatalogChangedEvent(emotionId, null, false);
+    }
+
+    public static CatalogChangedEvent ofCategory(Long categoryId) {
+        return new CatalogChangedEvent(null, categoryId, false);
+    }
+
+    public static CatalogChangedEvent ofPurchase(Long emotionId) {
+        return new CatalogChangedEvent(emotionId, null, true);
+    }
+
+    public static CatalogChangedEvent ofRating(Long emotionId) {
+        return new CatalogChangedEvent(emotionId, null, true);
+    }
+}
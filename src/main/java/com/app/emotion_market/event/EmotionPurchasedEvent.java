@@ -0,0 +1,13 @@
+package com.app.emotion_market.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 구매 완료 이벤트 (구매 트랜잭션 커밋 이후 처리용)
+ */
+public record EmotionPurchasedEvent(Long purchaseId,
+                                    Long userId,
+                                    Long emotionId,
+                                    LocalDateTime purchasedAt,
+                                    LocalDateTime expiresAt) {
+}
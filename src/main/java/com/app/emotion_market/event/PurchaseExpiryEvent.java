@@ -0,0 +1,25 @@
+package com.app.emotion_market.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매 만료 알림 이벤트 (만료 임박 / 만료)
+ */
+public record PurchaseExpiryEvent(Long purchaseId,
+                                  Long userId,
+                                  Long emotionId,
+                                  LocalDateTime expiresAt,
+                                  Kind kind) {
+
+    public enum Kind {
+        EXPIRING_SOON,
+        EXPIRED;
+
+        /**
+         * purchases.expiry_notice_level에 기록하는 알림 단계
+         */
+        public int noticeLevel() {
+            return ordinal() + 1;
+        }
+    }
+}
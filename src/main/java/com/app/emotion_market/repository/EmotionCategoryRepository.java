@@ -53,6 +53,20 @@ public interface EmotionCategoryRepository extends JpaRepository<EmotionCategory
         """)
     List<Object[]> findCategoriesWithEmotionCount();
 
+    /**
+     * 활성 카테고리별 감정 상품 개수, 평균 가격, 총 구매 수를 한 번에 조회
+     * [카테고리, 상품 개수, 평균 가격, 총 구매 수]
+     */
+    @Query("""
+        SELECT c, COUNT(se.id), AVG(se.price), SUM(se.totalPurchases)
+        FROM EmotionCategory c
+        LEFT JOIN SystemEmotion se ON se.categoryId = c.id AND se.isActive = true
+        WHERE c.isActive = true
+        GROUP BY c
+        ORDER BY c.sortOrder ASC
+        """)
+    List<Object[]> findActiveCategoriesWithStats();
+
     /**
      * 카테고리별 평균 가격 조회
      */
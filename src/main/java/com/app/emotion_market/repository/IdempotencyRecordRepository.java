@@ -0,0 +1,88 @@
+package com.app.emotion_market.repository;
+
+import com.app.emotion_market.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    // 멱등 키 선점 (유효한 기록이 이미 있으면 0 반환)
+    // 보관 기간이 지난 기록이나, 업무 쓰기 전에 선점 기한이 지난 기록(처리 중 서버 종료)은 새 요청으로 덮어씀
+    @Modifying
+    @Query(value = """
+        INSERT INTO idempotency_records (user_id, endpoint, idempotency_key, request_hash, locked_until,
+                                         applied, created_at, expires_at)
+        VALUES (:userId, :endpoint, :key, :requestHash, :lockedUntil, FALSE, :now, :expiresAt)
+        ON CONFLICT (user_id, endpoint, idempotency_key) DO UPDATE SET
+            request_hash = EXCLUDED.request_hash,
+            http_status = NULL,
+            response_body = NULL,
+            locked_until = EXCLUDED.locked_until,
+            applied = FALSE,
+            created_at = EXCLUDED.created_at,
+            expires_at = EXCLUDED.expires_at
+        WHERE idempotency_records.expires_at < EXCLUDED.created_at
+           OR (idempotency_records.http_status IS NULL AND NOT idempotency_records.applied
+               AND idempotency_records.locked_until < EXCLUDED.created_at)
+        """, nativeQuery = true)
+    int reserve(@Param("userId") Long userId,
+                @Param("endpoint") String endpoint,
+                @Param("key") String key,
+                @Param("requestHash") String requestHash,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 저장된 결과 조회 [requestHash, httpStatus, responseBody, expiresAt, applied]
+    @Query("SELECT r.requestHash, r.httpStatus, r.responseBody, r.expiresAt, r.applied FROM IdempotencyRecord r " +
+           "WHERE r.userId = :userId AND r.endpoint = :endpoint AND r.idempotencyKey = :key")
+    Optional<Object[]> findResult(@Param("userId") Long userId,
+                                  @Param("endpoint") String endpoint,
+                                  @Param("key") String key);
+
+    // 업무 트랜잭션 안에서 반영 표시 (선점을 넘겨받은 요청이 있으면 0 반환)
+    // 행 잠금이 업무 트랜잭션 커밋까지 유지되므로 그 사이 넘겨받기는 커밋을 기다린 뒤 applied를 보고 거부됨
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.applied = true " +
+           "WHERE r.userId = :userId AND r.endpoint = :endpoint AND r.idempotencyKey = :key " +
+           "AND r.httpStatus IS NULL AND r.createdAt = :reservedAt")
+    int claim(@Param("userId") Long userId,
+              @Param("endpoint") String endpoint,
+              @Param("key") String key,
+              @Param("reservedAt") LocalDateTime reservedAt);
+
+    // 처리 결과 저장 (선점을 넘겨받은 요청이 있으면 0 반환)
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.httpStatus = :httpStatus, r.responseBody = :responseBody, " +
+           "r.lockedUntil = NULL " +
+           "WHERE r.userId = :userId AND r.endpoint = :endpoint AND r.idempotencyKey = :key " +
+           "AND r.httpStatus IS NULL AND r.createdAt = :reservedAt")
+    int complete(@Param("userId") Long userId,
+                 @Param("endpoint") String endpoint,
+                 @Param("key") String key,
+                 @Param("reservedAt") LocalDateTime reservedAt,
+                 @Param("httpStatus") Integer httpStatus,
+                 @Param("responseBody") String responseBody);
+
+    // 선점 해제 (서버 오류로 끝나 재시도를 허용해야 하는 경우, 업무 쓰기가 반영되지 않은 자신의 선점만 해제)
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r " +
+           "WHERE r.userId = :userId AND r.endpoint = :endpoint AND r.idempotencyKey = :key " +
+           "AND r.httpStatus IS NULL AND r.applied = false AND r.createdAt = :reservedAt")
+    int release(@Param("userId") Long userId,
+                @Param("endpoint") String endpoint,
+                @Param("key") String key,
+                @Param("reservedAt") LocalDateTime reservedAt);
+
+    // 만료된 결과 삭제
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
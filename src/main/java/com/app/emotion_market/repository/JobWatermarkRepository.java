@@ -0,0 +1,25 @@
+package com.app.emotion_market.repository;
+
+import com.app.emotion_market.entity.JobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+
+    // 진행 위치 전진 (여러 노드가 동시에 갱신해도 뒤로 가지 않음)
+    @Modifying
+    @Query(value = """
+        INSERT INTO job_watermarks (job_name, last_id, updated_at)
+        VALUES (:jobName, :lastId, :now)
+        ON CONFLICT (job_name) DO UPDATE SET
+            last_id = GREATEST(job_watermarks.last_id, EXCLUDED.last_id),
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    void advance(@Param("jobName") String jobName, @Param("lastId") long lastId, @Param("now") LocalDateTime now);
+}
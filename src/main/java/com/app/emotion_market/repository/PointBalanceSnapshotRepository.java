@@ -0,0 +1,66 @@
+package com.app.emotion_market.repository;
+
+import com.app.emotion_market.entity.PointBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    // 원장 거래가 없는 사용자의 현재 포인트를 시작 잔액으로 적재 (원장 모드 전환 시)
+    @Modifying
+    @Query(value = """
+        INSERT INTO point_balance_snapshots (user_id, sequence_no, balance, created_at)
+        SELECT u.id, 0, u.points, :now
+        FROM users u
+        WHERE NOT EXISTS (
+            SELECT 1 FROM point_transactions pt
+            WHERE pt.user_id = u.id AND pt.sequence_no IS NOT NULL
+        )
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int seedOpeningBalances(@Param("now") LocalDateTime now);
+
+    // 사용자 ID 구간의 스냅샷을 이후 원장 거래로 전진
+    @Modifying
+    @Query(value = """
+        INSERT INTO point_balance_snapshots (user_id, sequence_no, balance, created_at)
+        SELECT pt.user_id, MAX(pt.sequence_no), COALESCE(MAX(s.balance), 0) + SUM(pt.amount), :now
+        FROM point_transactions pt
+        LEFT JOIN point_balance_snapshots s ON s.user_id = pt.user_id
+        WHERE pt.user_id > :fromUserId AND pt.user_id <= :toUserId
+          AND pt.sequence_no > COALESCE(s.sequence_no, 0)
+        GROUP BY pt.user_id
+        ON CONFLICT (user_id) DO UPDATE SET
+            sequence_no = EXCLUDED.sequence_no,
+            balance = EXCLUDED.balance,
+            created_at = EXCLUDED.created_at
+        WHERE point_balance_snapshots.sequence_no < EXCLUDED.sequence_no
+        """, nativeQuery = true)
+    int advanceSnapshots(@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId,
+                         @Param("now") LocalDateTime now);
+
+    // 스냅샷 이후 거래를 재생한 잔액이 마지막 거래의 balance_after와 다르거나 순번이 빈 사용자
+    // [userId, replayedBalance, recordedBalance, expectedEntries, entries]
+    @Query(value = """
+        SELECT pt.user_id,
+               COALESCE(MAX(s.balance), 0) + SUM(pt.amount),
+               (ARRAY_AGG(pt.balance_after ORDER BY pt.sequence_no DESC))[1],
+               MAX(pt.sequence_no) - COALESCE(MAX(s.sequence_no), 0),
+               COUNT(*)
+        FROM point_transactions pt
+        LEFT JOIN point_balance_snapshots s ON s.user_id = pt.user_id
+        WHERE pt.user_id > :fromUserId AND pt.user_id <= :toUserId
+          AND pt.sequence_no > COALESCE(s.sequence_no, 0)
+        GROUP BY pt.user_id
+        HAVING COALESCE(MAX(s.balance), 0) + SUM(pt.amount) <> (ARRAY_AGG(pt.balance_after ORDER BY pt.sequence_no DESC))[1]
+            OR MAX(pt.sequence_no) - COALESCE(MAX(s.sequence_no), 0) <> COUNT(*)
+        """, nativeQuery = true)
+    List<Object[]> findMismatches(@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId);
+}
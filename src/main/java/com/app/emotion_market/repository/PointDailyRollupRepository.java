@@ -0,0 +1,95 @@
+package com.app.emotion_market.repository;
+
+import com.app.emotion_market.entity.PointDailyRollup;
+import com.app.emotion_market.entity.PointDailyRollupId;
+import com.app.emotion_market.enums.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PointDailyRollupRepository extends JpaRepository<PointDailyRollup, PointDailyRollupId> {
+
+    // 거래 1건 누적 (없으면 생성)
+    @Modifying
+    @Query(value = """
+        INSERT INTO point_daily_rollups (user_id, stat_date, transaction_type, earned, spent, transaction_count)
+        VALUES (:userId, :statDate, :transactionType, :earned, :spent, 1)
+        ON CONFLICT (user_id, stat_date, transaction_type) DO UPDATE SET
+            earned = point_daily_rollups.earned + EXCLUDED.earned,
+            spent = point_daily_rollups.spent + EXCLUDED.spent,
+            transaction_count = point_daily_rollups.transaction_count + 1
+        """, nativeQuery = true)
+    void accumulate(@Param("userId") Long userId, @Param("statDate") LocalDate statDate,
+                    @Param("transactionType") String transactionType,
+                    @Param("earned") long earned, @Param("spent") long spent);
+
+    // 전체 거래 내역으로 집계 재계산 (초기 적재용)
+    @Modifying
+    @Query(value = """
+        INSERT INTO point_daily_rollups (user_id, stat_date, transaction_type, earned, spent, transaction_count)
+        SELECT pt.user_id,
+               CAST(pt.created_at AS DATE),
+               pt.transaction_type,
+               COALESCE(SUM(pt.amount) FILTER (WHERE pt.amount > 0), 0),
+               COALESCE(-SUM(pt.amount) FILTER (WHERE pt.amount < 0), 0),
+               COUNT(*)
+        FROM point_transactions pt
+        GROUP BY pt.user_id, CAST(pt.created_at AS DATE), pt.transaction_type
+        ON CONFLICT (user_id, stat_date, transaction_type) DO UPDATE SET
+            earned = EXCLUDED.earned,
+            spent = EXCLUDED.spent,
+            transaction_count = EXCLUDED.transaction_count
+        """, nativeQuery = true)
+    int rebuildFromTransactions();
+
+    // 일별 통계 [statDate, transactionType, earned, spent, transactionCount]
+    @Query("SELECT r.id.statDate, r.id.transactionType, r.earned, r.spent, r.transactionCount " +
+           "FROM PointDailyRollup r " +
+           "WHERE r.id.userId = :userId AND r.id.statDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY r.id.statDate")
+    List<Object[]> findDailyStats(@Param("userId") Long userId,
+                                  @Param("startDate") LocalDate startDate,
+                                  @Param("endDate") LocalDate endDate);
+
+    // 월별 통계 [month, transactionType, earned, spent, transactionCount]
+    @Query(value = """
+        SELECT CAST(DATE_TRUNC('month', r.stat_date) AS DATE), r.transaction_type,
+               SUM(r.earned), SUM(r.spent), SUM(r.transaction_count)
+        FROM point_daily_rollups r
+        WHERE r.user_id = :userId AND r.stat_date >= :startDate
+        GROUP BY 1, 2
+        ORDER BY 1
+        """, nativeQuery = true)
+    List<Object[]> findMonthlyStats(@Param("userId") Long userId, @Param("startDate") LocalDate startDate);
+
+    // 기간 통계 한 번에 조회 [transactionType, earned, spent, transactionCount]
+    // 유형별 행과 기간 합계 행(transactionType이 NULL, 거래가 없어도 항상 1행)을 함께 반환
+    @Query(value = """
+        SELECT r.transaction_type,
+               COALESCE(SUM(r.earned), 0), COALESCE(SUM(r.spent), 0), COALESCE(SUM(r.transaction_count), 0)
+        FROM point_daily_rollups r
+        WHERE r.user_id = :userId AND r.stat_date BETWEEN :startDate AND :endDate
+        GROUP BY GROUPING SETS ((r.transaction_type), ())
+        """, nativeQuery = true)
+    List<Object[]> findPeriodStatistics(@Param("userId") Long userId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    // 전체 사용자 거래 유형별 거래 수
+    @Query("SELECT COALESCE(SUM(r.transactionCount), 0) FROM PointDailyRollup r " +
+           "WHERE r.id.transactionType = :type AND r.id.statDate >= :startDate")
+    Long countByTypeSince(@Param("type") TransactionType type, @Param("startDate") LocalDate startDate);
+
+    // 전체 사용자 거래 유형별 순 금액
+    @Query("SELECT COALESCE(SUM(r.earned - r.spent), 0) FROM PointDailyRollup r " +
+           "WHERE r.id.transactionType = :type AND r.id.statDate BETWEEN :startDate AND :endDate")
+    Long sumNetByTypeInPeriod(@Param("type") TransactionType type,
+                              @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate);
+}
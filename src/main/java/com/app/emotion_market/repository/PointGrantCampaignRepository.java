@@ -0,0 +1,31 @@
+package com.app.emotion_market.repository;
+
+import com.app.emotion_market.entity.PointGrantCampaign;
+import com.app.emotion_market.enums.PointGrantStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PointGrantCampaignRepository extends JpaRepository<PointGrantCampaign, Long> {
+
+    Optional<PointGrantCampaign> findByCampaignKey(String campaignKey);
+
+    // 청크 처리 결과 반영 (지급과 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query("UPDATE PointGrantCampaign c SET c.checkpointUserId = :checkpointUserId, " +
+           "c.grantedCount = c.grantedCount + :granted, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.checkpointUserId < :checkpointUserId")
+    int advance(@Param("id") Long id, @Param("checkpointUserId") Long checkpointUserId,
+                @Param("granted") long granted, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE PointGrantCampaign c SET c.status = :status, c.updatedAt = :now WHERE c.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") PointGrantStatus status,
+                     @Param("now") LocalDateTime now);
+}
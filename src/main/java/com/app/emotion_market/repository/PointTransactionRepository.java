@@ -15,25 +15,14 @@ import java.util.List;
 @Repository
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long>, PointTransactionRepositoryCustom {
 
-    List<PointTransaction> findByUserOrderByCreatedAtDesc(User user);
-
     List<PointTransaction> findByUserAndTransactionTypeOrderByCreatedAtDesc(User user, TransactionType transactionType);
 
     @Query("SELECT SUM(pt.amount) FROM PointTransaction pt WHERE pt.user = :user AND pt.transactionType = :type")
     Integer sumAmountByUserAndType(@Param("user") User user, @Param("type") TransactionType type);
 
-    @Query("SELECT SUM(pt.amount) FROM PointTransaction pt WHERE pt.user = :user AND pt.createdAt BETWEEN :startDate AND :endDate")
-    Integer sumAmountByUserInPeriod(@Param("user") User user, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-
     @Query("SELECT pt FROM PointTransaction pt WHERE pt.user = :user AND pt.createdAt >= :startDate ORDER BY pt.createdAt DESC")
     List<PointTransaction> findRecentTransactionsByUser(@Param("user") User user, @Param("startDate") LocalDateTime startDate);
 
-    @Query("SELECT COUNT(pt) FROM PointTransaction pt WHERE pt.transactionType = :type AND pt.createdAt >= :startDate")
-    Long countByTypeAfterDate(@Param("type") TransactionType type, @Param("startDate") LocalDateTime startDate);
-
-    @Query("SELECT SUM(pt.amount) FROM PointTransaction pt WHERE pt.transactionType = :type AND pt.createdAt BETWEEN :startDate AND :endDate")
-    Integer sumAmountByTypeInPeriod(@Param("type") TransactionType type, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-
     // PointController에서 필요한 메서드들 추가
     @Query("SELECT SUM(pt.amount) FROM PointTransaction pt WHERE pt.user.id = :userId AND pt.amount > 0")
     Integer getTotalEarnedByUser(@Param("userId") Long userId);
@@ -41,19 +30,52 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
     @Query("SELECT SUM(ABS(pt.amount)) FROM PointTransaction pt WHERE pt.user.id = :userId AND pt.amount < 0")
     Integer getTotalSpentByUser(@Param("userId") Long userId);
 
-    @Query("SELECT SUM(pt.amount) FROM PointTransaction pt WHERE pt.user.id = :userId AND pt.amount > 0 AND pt.createdAt BETWEEN :startDate AND :endDate")
-    Integer getTotalEarnedByUserInPeriod(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-
-    @Query("SELECT SUM(pt.amount) FROM PointTransaction pt WHERE pt.user.id = :userId AND pt.amount < 0 AND pt.createdAt BETWEEN :startDate AND :endDate")
-    Integer getTotalSpentByUserInPeriod(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-
-    @Query("SELECT COUNT(pt) FROM PointTransaction pt WHERE pt.user.id = :userId AND pt.createdAt BETWEEN :startDate AND :endDate")
-    Long getTransactionCountByUserInPeriod(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-
     @Query("SELECT pt FROM PointTransaction pt WHERE pt.user.id = :userId ORDER BY pt.createdAt DESC")
     List<PointTransaction> findRecentTransactionsByUserId(@Param("userId") Long userId, org.springframework.data.domain.Pageable pageable);
 
     default List<PointTransaction> findRecentTransactionsByUserId(Long userId, int limit) {
         return findRecentTransactionsByUserId(userId, org.springframework.data.domain.PageRequest.of(0, limit));
     }
+
+    // 최근 거래가 있는 사용자의 현재 잔액 [userId, users.points, 최신 거래 ID] (잔액 캐시 적재용)
+    // 거래 기록 없이 바뀐 잔액도 반영되도록 balance_after가 아닌 users.points 사용
+    @Query(value = """
+        SELECT recent.user_id, u.points, recent.last_id
+        FROM (
+            SELECT pt.user_id, MAX(pt.id) AS last_id
+            FROM point_transactions pt
+            WHERE pt.created_at >= :since
+            GROUP BY pt.user_id
+        ) recent
+        JOIN users u ON u.id = recent.user_id
+        """, nativeQuery = true)
+    List<Object[]> findRecentUserBalancesSince(@Param("since") LocalDateTime since);
+
+    // 원장 모드용 [userId, 원장 잔액, 최신 거래 ID] (원장 모드에서는 users.points가 갱신되지 않음)
+    @Query(value = """
+        SELECT recent.user_id,
+               COALESCE(s.balance, 0) + COALESCE((
+                   SELECT SUM(pt.amount) FROM point_transactions pt
+                   WHERE pt.user_id = recent.user_id AND pt.sequence_no > COALESCE(s.sequence_no, 0)
+               ), 0),
+               recent.last_id
+        FROM (
+            SELECT pt.user_id, MAX(pt.id) AS last_id
+            FROM point_transactions pt
+            WHERE pt.created_at >= :since
+            GROUP BY pt.user_id
+        ) recent
+        LEFT JOIN point_balance_snapshots s ON s.user_id = recent.user_id
+        """, nativeQuery = true)
+    List<Object[]> findRecentLedgerBalancesSince(@Param("since") LocalDateTime since);
+
+    // 원장 잔액 (스냅샷 잔액 + 스냅샷 이후 원장 거래 금액 합계)
+    @Query(value = """
+        SELECT COALESCE(MAX(s.balance), 0) + COALESCE(SUM(pt.amount), 0)
+        FROM (SELECT CAST(:userId AS BIGINT) AS user_id) target
+        LEFT JOIN point_balance_snapshots s ON s.user_id = target.user_id
+        LEFT JOIN point_transactions pt ON pt.user_id = target.user_id
+              AND pt.sequence_no > COALESCE(s.sequence_no, 0)
+        """, nativeQuery = true)
+    Long findLedgerBalance(@Param("userId") Long userId);
 }
@@ -1,16 +1,18 @@
 package com.app.emotion_market.repository;
 
 import com.app.emotion_market.entity.Purchase;
-import com.app.emotion_market.enumType.PurchaseStatus;
+import com.app.emotion_market.enums.PurchaseStatus;
 import com.app.emotion_market.entity.SystemEmotion;
 import com.app.emotion_market.entity.User;
 import com.app.emotion_market.repository.custom.PurchaseRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,9 @@ public interface PurchaseRepository extends JpaRepository<Purchase, Long>, Purch
 
     Optional<Purchase> findByUserAndEmotionAndStatus(User user, SystemEmotion emotion, PurchaseStatus status);
 
+    boolean existsByUserIdAndEmotionIdAndCreatedAtAfterAndStatus(Long userId, Long emotionId,
+                                                                 LocalDateTime createdAt, PurchaseStatus status);
+
     @Query("SELECT COUNT(p) FROM Purchase p WHERE p.user = :user AND p.emotion = :emotion AND p.status = :status AND p.createdAt >= :startDate")
     Long countRecentPurchases(@Param("user") User user, 
                              @Param("emotion") SystemEmotion emotion, 
@@ -41,4 +46,71 @@ public interface PurchaseRepository extends JpaRepository<Purchase, Long>, Purch
 
     @Query("SELECT SUM(p.pointsSpent) FROM Purchase p WHERE p.user = :user AND p.status = :status")
     Integer getTotalSpentByUser(@Param("user") User user, @Param("status") PurchaseStatus status);
+
+    /**
+     * 감정별 시간대별 구매 수 (최근 구매 순위 재구성용)
+     * [emotionId, 시간(정각), 구매 수]
+     */
+    @Query(value = """
+        SELECT emotion_id, date_trunc('hour', created_at) AS hour, COUNT(*)
+        FROM purchases
+        WHERE created_at >= :since AND created_at < :until
+        GROUP BY emotion_id, date_trunc('hour', created_at)
+        """, nativeQuery = true)
+    List<Object[]> countHourlyPurchasesByEmotionBetween(@Param("since") LocalDateTime since,
+                                                        @Param("until") LocalDateTime until);
+
+    /**
+     * ID 구간 내 만료된 활성 구매를 EXPIRED로 변경
+     * 다른 노드가 잠근 행은 건너뛰고(SKIP LOCKED) 다음 실행에서 다시 확인
+     */
+    @Modifying
+    @Query(value = """
+        WITH candidates AS (
+            SELECT id FROM purchases
+            WHERE id > :fromId AND id <= :toId
+              AND status = 'ACTIVE' AND expires_at <= :now
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE purchases p
+        SET status = 'EXPIRED', updated_at = :now
+        FROM candidates c
+        WHERE p.id = c.id
+        """, nativeQuery = true)
+    int expireInRange(@Param("fromId") long fromId, @Param("toId") long toId, @Param("now") LocalDateTime now);
+
+    // ID 구간 내 남아있는 활성 구매 중 가장 작은 ID (만료 전이거나 다른 노드가 처리 중인 행)
+    @Query(value = "SELECT MIN(id) FROM purchases WHERE id > :fromId AND id <= :toId AND status = 'ACTIVE'", nativeQuery = true)
+    Long findMinActiveIdInRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT MAX(p.id) FROM Purchase p")
+    Long findMaxId();
+
+    /**
+     * 만료 알림 발송 선점 (여러 노드가 같은 구매를 예약해도 한 곳에서만 발송)
+     * 환불 등으로 상태가 바뀌었거나, 만료 시각이 뒤로 밀렸거나, 이미 같은 단계를 보낸 구매는 0
+     */
+    @Modifying
+    @Query("""
+        UPDATE Purchase p SET p.expiryNoticeLevel = :level
+        WHERE p.id = :purchaseId AND p.expiryNoticeLevel < :level
+          AND p.status IN :statuses AND p.expiresAt <= :dueBy
+        """)
+    int claimExpiryNotice(@Param("purchaseId") Long purchaseId,
+                          @Param("level") int level,
+                          @Param("statuses") Collection<PurchaseStatus> statuses,
+                          @Param("dueBy") LocalDateTime dueBy);
+
+    /**
+     * 만료 시각이 된 활성 구매 한 건을 EXPIRED로 변경 (주기 만료 처리보다 먼저 반영)
+     */
+    @Modifying
+    @Query("""
+        UPDATE Purchase p SET p.status = :expired, p.updatedAt = :now
+        WHERE p.id = :purchaseId AND p.status = :active AND p.expiresAt <= :now
+        """)
+    int expirePurchase(@Param("purchaseId") Long purchaseId,
+                       @Param("active") PurchaseStatus active,
+                       @Param("expired") PurchaseStatus expired,
+                       @Param("now") LocalDateTime now);
 }
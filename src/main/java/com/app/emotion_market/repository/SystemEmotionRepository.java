@@ -1,7 +1,7 @@
 package com.app.emotion_market.repository;
 
-import com.app.emotion_market.enumType.EmotionType;
 import com.app.emotion_market.entity.SystemEmotion;
+import com.app.emotion_market.enums.EmotionType;
 import com.app.emotion_market.repository.custom.SystemEmotionRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +38,10 @@ public interface SystemEmotionRepository extends JpaRepository<SystemEmotion, Lo
     @Query("SELECT COUNT(se) FROM SystemEmotion se WHERE se.categoryId = :categoryId AND se.isActive = true")
     Long countByCategoryIdAndIsActiveTrue(@Param("categoryId") Integer categoryId);
 
+    // 카탈로그 변경 감지용 [상품 수, 마지막 수정 시각] (다른 노드의 관리자 변경 확인)
+    @Query("SELECT COUNT(se), MAX(se.updatedAt) FROM SystemEmotion se")
+    Optional<Object[]> findCatalogVersion();
+
     @Query("SELECT AVG(se.price) FROM SystemEmotion se WHERE se.categoryId = :categoryId AND se.isActive = true")
     Double getAveragePriceByCategoryId(@Param("categoryId") Integer categoryId);
 
@@ -69,11 +73,45 @@ public interface SystemEmotionRepository extends JpaRepository<SystemEmotion, Lo
     // 활성화된 감정들 정렬순으로 조회
     List<SystemEmotion> findByIsActiveTrueOrderBySortOrderAsc();
 
+    // 콘텐츠 미리보기가 계산되지 않은 감정들 조회
+    @Query("SELECT se FROM SystemEmotion se WHERE se.contents IS NOT NULL AND se.previewMusic IS NULL AND se.previewVideo IS NULL AND se.previewText IS NULL AND se.previewGuide IS NULL")
+    List<SystemEmotion> findWithoutContentPreview();
+
+    // 콘텐츠(JSON)만 조회
+    @Query("SELECT se.contents FROM SystemEmotion se WHERE se.id = :emotionId")
+    Optional<String> findContentsById(@Param("emotionId") Long emotionId);
+
     // 구매 수 증가
     @Modifying
     @Query("UPDATE SystemEmotion se SET se.totalPurchases = se.totalPurchases + 1 WHERE se.id = :emotionId")
     void incrementTotalPurchases(@Param("emotionId") Long emotionId);
 
+    @Query("SELECT se.id FROM SystemEmotion se ORDER BY se.id")
+    List<Long> findAllIds();
+
+    // 평점 보정 전 감정 행 잠금 (리뷰의 평점 증분 갱신과 보정을 직렬화)
+    @Query(value = "SELECT id FROM system_emotions WHERE id = :emotionId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockForRatingReconcile(@Param("emotionId") Long emotionId);
+
+    // 평점 합계/개수를 구매 내역 기준 정확한 값과 비교해 다르면 보정
+    // 행 잠금 이후의 문장이므로 잠금 전에 커밋된 리뷰까지 집계되고, 진행 중인 리뷰는 보정 후 증분으로 반영됨
+    @Modifying
+    @Query(value = """
+        UPDATE system_emotions se
+        SET rating_sum = agg.rating_sum,
+            rating_count = agg.rating_count,
+            average_rating = CASE WHEN agg.rating_count = 0 THEN 0
+                                  ELSE ROUND(CAST(agg.rating_sum AS NUMERIC) / agg.rating_count, 2) END
+        FROM (
+            SELECT COALESCE(SUM(p.rating), 0) AS rating_sum, COUNT(p.rating) AS rating_count
+            FROM purchases p
+            WHERE p.emotion_id = :emotionId AND p.rating IS NOT NULL
+        ) agg
+        WHERE se.id = :emotionId
+          AND (se.rating_sum <> agg.rating_sum OR se.rating_count <> agg.rating_count)
+        """, nativeQuery = true)
+    int reconcileRating(@Param("emotionId") Long emotionId);
+
     // 평점 업데이트
     @Modifying
     @Query("UPDATE SystemEmotion se SET se.averageRating = :newRating WHERE se.id = :emotionId")
@@ -0,0 +1,47 @@
+package com.app.emotion_market.repository;
+
+import com.app.emotion_market.entity.UserPointSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface UserPointSummaryRepository extends JpaRepository<UserPointSummary, Long> {
+
+    // 거래 1건 누적 (없으면 생성)
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_point_summary (user_id, total_earned, total_spent, transaction_count, last_transaction_at)
+        VALUES (:userId, :earned, :spent, 1, :transactionAt)
+        ON CONFLICT (user_id) DO UPDATE SET
+            total_earned = user_point_summary.total_earned + EXCLUDED.total_earned,
+            total_spent = user_point_summary.total_spent + EXCLUDED.total_spent,
+            transaction_count = user_point_summary.transaction_count + 1,
+            last_transaction_at = GREATEST(user_point_summary.last_transaction_at, EXCLUDED.last_transaction_at)
+        """, nativeQuery = true)
+    void accumulate(@Param("userId") Long userId, @Param("earned") long earned,
+                    @Param("spent") long spent, @Param("transactionAt") LocalDateTime transactionAt);
+
+    // 전체 거래 내역으로 요약 재계산 (초기 적재용)
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_point_summary (user_id, total_earned, total_spent, transaction_count, last_transaction_at)
+        SELECT pt.user_id,
+               COALESCE(SUM(pt.amount) FILTER (WHERE pt.amount > 0), 0),
+               COALESCE(-SUM(pt.amount) FILTER (WHERE pt.amount < 0), 0),
+               COUNT(*),
+               MAX(pt.created_at)
+        FROM point_transactions pt
+        GROUP BY pt.user_id
+        ON CONFLICT (user_id) DO UPDATE SET
+            total_earned = EXCLUDED.total_earned,
+            total_spent = EXCLUDED.total_spent,
+            transaction_count = EXCLUDED.transaction_count,
+            last_transaction_at = EXCLUDED.last_transaction_at
+        """, nativeQuery = true)
+    int rebuildFromTransactions();
+}
@@ -3,12 +3,15 @@ package com.app.emotion_market.repository;
 import com.app.emotion_market.entity.User;
 import com.app.emotion_market.enums.UserStatus;
 import com.app.emotion_market.repository.custom.UserRepositoryCustom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -27,6 +30,33 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :startDate")
     Long countNewUsersAfter(@Param("startDate") LocalDateTime startDate);
 
+    @Query("SELECT u.points FROM User u WHERE u.id = :userId")
+    Optional<Integer> findPointsById(@Param("userId") Long userId);
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
+
+    // afterId 이후의 사용자 ID를 오름차순으로 (일괄 지급 대상 순회용)
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId AND u.status = :status ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, @Param("status") UserStatus status, Pageable pageable);
+
     @Query("SELECT SUM(u.points) FROM User u WHERE u.status = :status")
     Long getTotalPointsByStatus(@Param("status") UserStatus status);
+
+    // 포인트 외 컬럼 갱신은 version을 확인/증가시키지 않는 대상 UPDATE로 처리
+    // (엔티티 갱신은 동시에 진행된 포인트 변경과 버전 충돌하므로)
+    @Modifying
+    @Query("UPDATE User u SET u.lastLoginAt = :loginAt WHERE u.id = :userId")
+    int updateLastLoginAt(@Param("userId") Long userId, @Param("loginAt") LocalDateTime loginAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.nickname = :nickname, u.profileImage = :profileImage, u.mbtiType = :mbtiType, " +
+           "u.updatedAt = :now WHERE u.id = :userId")
+    int updateProfile(@Param("userId") Long userId, @Param("nickname") String nickname,
+                      @Param("profileImage") String profileImage, @Param("mbtiType") String mbtiType,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.status = :status, u.updatedAt = :now WHERE u.id = :userId")
+    int updateStatus(@Param("userId") Long userId, @Param("status") UserStatus status, @Param("now") LocalDateTime now);
 }
@@ -1,13 +1,14 @@
 package com.app.emotion_market.repository.custom;
 
 import com.app.emotion_market.entity.PointTransaction;
+import com.app.emotion_market.enums.RelatedType;
 import com.app.emotion_market.enums.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 public interface PointTransactionRepositoryCustom {
     
@@ -15,15 +16,35 @@ public interface PointTransactionRepositoryCustom {
                                                       LocalDateTime startDate, LocalDateTime endDate,
                                                       Pageable pageable);
     
-    List<Object[]> getMonthlyTransactionStats(Long userId, int months);
-    
-    List<Object[]> getDailyTransactionStats(Long userId, LocalDateTime startDate, LocalDateTime endDate);
-    
     Integer getTotalEarnedByUser(Long userId);
     
     Integer getTotalSpentByUser(Long userId);
-    
-    Map<String, Integer> getEarningsByTransactionType(Long userId);
-    
-    Map<String, Integer> getSpendingByTransactionType(Long userId);
+
+    /**
+     * 커서 기반 거래 내역 조회 - (createdAt, id) 내림차순, 커서 이후 limit건 (count 쿼리 없음)
+     */
+    List<PointTransaction> findTransactionsByCursor(Long userId, RelatedType relatedType,
+                                                    LocalDateTime startDate, LocalDateTime endDate,
+                                                    LocalDateTime cursorCreatedAt, Long cursorId,
+                                                    int limit);
+
+    /**
+     * 원장 거래 추가 - 마지막 원장 거래(없으면 스냅샷)의 순번/잔액을 이어 받아 INSERT 한 번으로 기록
+     * 잔액이 음수가 되면 기록하지 않고 빈 결과, 같은 사용자의 동시 추가는 (user_id, sequence_no) 유일 제약으로 충돌해
+     * DuplicateKeyException 발생 (PointMutationRetryTemplate으로 재시도)
+     *
+     * @return [id, sequenceNo, balanceAfter, createdAt]
+     */
+    Optional<Object[]> appendLedgerEntry(Long userId, int amount, TransactionType transactionType,
+                                         String description, Long relatedId, RelatedType relatedType,
+                                         LocalDateTime now);
+
+    /**
+     * 이벤트 포인트 일괄 지급 - 대상 중 활성 상태이고 이 캠페인으로 아직 지급받지 않은 사용자에게
+     * 포인트 증가(원장 모드에서는 원장 추가), 거래 기록, 누적 요약/일별 집계 갱신을 하나의 문장으로 처리
+     *
+     * @return 지급된 거래 [transactionId, userId, balanceAfter]
+     */
+    List<Object[]> grantInBulk(Long campaignId, List<Long> userIds, int amount, String description,
+                               boolean ledger, LocalDateTime now);
 }
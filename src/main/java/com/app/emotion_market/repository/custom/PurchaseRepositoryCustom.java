@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PurchaseRepositoryCustom {
     
@@ -21,4 +22,41 @@ public interface PurchaseRepositoryCustom {
     List<Object[]> getPurchaseStatsByUser(Long userId);
     
     List<Object[]> getPopularEmotionStats(int limit);
+
+    /**
+     * 포인트 차감, 중복 구매 검사, 구매 기록 생성, 구매 수 증가를 단일 SQL 문으로 처리
+     * 조건을 만족하지 못하면 빈 값을 반환 (checkDuplicate가 false이면 중복 구매 검사 생략)
+     * 사용자별 advisory lock을 먼저 잡으므로 트랜잭션 안에서 호출해야 하며, 잠금은 트랜잭션 종료까지 유지됨
+     * [purchaseId, balanceAfter, pointsSpent, emotionName, emotionType, createdAt, expiresAt]
+     */
+    Optional<Object[]> purchaseAtomically(Long userId, Long emotionId, String purchaseMessage,
+                                          boolean checkDuplicate, LocalDateTime duplicateSince,
+                                          LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * 원장 모드 구매 - users.points 대신 포인트 원장에 차감 거래를 추가 (잔액은 마지막 원장 거래 기준)
+     * [purchaseId, balanceAfter, pointsSpent, emotionName, emotionType, createdAt, expiresAt, transactionId]
+     */
+    Optional<Object[]> purchaseWithLedger(Long userId, Long emotionId, String purchaseMessage,
+                                          boolean checkDuplicate, LocalDateTime duplicateSince,
+                                          LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * 접근 가능한 구매(본인, 활성, 만료 전)의 콘텐츠 응답 정보를 감정과 조인해 한 번에 조회
+     * [purchaseId, emotionId, emotionName, emotionType, contentsVersion, createdAt, expiresAt, accessCount]
+     */
+    Optional<Object[]> findAccessibleContent(Long userId, Long purchaseId, LocalDateTime now);
+
+    /**
+     * 리뷰(평점, 코멘트) 저장 후 감정 상품의 평점 합계/개수/평균을 증분 갱신
+     * 본인 구매가 아니면 빈 값, 성공 시 감정 상품 ID 반환
+     */
+    Optional<Long> applyReview(Long userId, Long purchaseId, Integer rating, String reviewComment,
+                               LocalDateTime now);
+
+    /**
+     * 만료 시각이 구간 안에 있는 활성 구매를 ID 순으로 limit건씩 조회 (만료 알림 적재용)
+     * [purchaseId, userId, emotionId, expiresAt]
+     */
+    List<Object[]> findActiveExpiries(LocalDateTime from, LocalDateTime to, long afterId, int limit);
 }
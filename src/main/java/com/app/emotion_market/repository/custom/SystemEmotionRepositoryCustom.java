@@ -1,7 +1,9 @@
 package com.app.emotion_market.repository.custom;
 
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
 import com.app.emotion_market.enums.EmotionType;
 import com.app.emotion_market.entity.SystemEmotion;
+import com.app.emotion_market.service.catalog.CatalogItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -20,4 +22,11 @@ public interface SystemEmotionRepositoryCustom {
     List<SystemEmotion> searchEmotionsByKeyword(String keyword);
     
     List<Object[]> getEmotionStatsByCategory();
+
+    List<CatalogItem> findActiveCatalogItems();
+
+    /**
+     * 카탈로그 스냅샷 적재 전 상점 검색 (검색 색인과 같은 일치 규칙, 점수, 정렬)
+     */
+    Page<CatalogItem> searchCatalogItems(ShopSearchCondition condition, Pageable pageable);
 }
@@ -0,0 +1,40 @@
+package com.app.emotion_market.repository.impl;
+
+import com.app.emotion_market.entity.PointTransaction;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.function.Supplier;
+
+/**
+ * 포인트 원장 순번 충돌 변환
+ * 네이티브 INSERT의 유일 제약 위반은 저장소 예외 변환을 거치면 일반 무결성 위반으로 바뀔 수 있으므로,
+ * 재시도 템플릿이 순번 충돌만 골라 재시도할 수 있도록 저장소에서 DuplicateKeyException으로 변환
+ */
+final class LedgerConflicts {
+
+    private LedgerConflicts() {
+    }
+
+    static <T> T translate(Supplier<T> query) {
+        try {
+            return query.get();
+        } catch (PersistenceException e) {
+            if (isSequenceConflict(e)) {
+                throw new DuplicateKeyException("포인트 원장 순번 충돌", e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isSequenceConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && PointTransaction.SEQUENCE_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,11 +1,13 @@
 package com.app.emotion_market.repository.impl;
 
 import com.app.emotion_market.entity.PointTransaction;
+import com.app.emotion_market.entity.QPointTransaction;
+import com.app.emotion_market.enums.RelatedType;
 import com.app.emotion_market.enums.TransactionType;
 import com.app.emotion_market.repository.custom.PointTransactionRepositoryCustom;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -14,12 +16,127 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class PointTransactionRepositoryImpl implements PointTransactionRepositoryCustom {
 
+    private static final String APPEND_LEDGER_ENTRY_SQL = """
+        WITH last AS (
+            SELECT sequence_no, balance_after
+            FROM point_transactions
+            WHERE user_id = :userId AND sequence_no IS NOT NULL
+            ORDER BY sequence_no DESC
+            LIMIT 1
+        ), opening AS (
+            SELECT COALESCE((SELECT sequence_no FROM last), s.sequence_no, 0) AS sequence_no,
+                   COALESCE((SELECT balance_after FROM last), s.balance, 0) AS balance
+            FROM (SELECT CAST(:userId AS BIGINT) AS user_id) target
+            LEFT JOIN point_balance_snapshots s ON s.user_id = target.user_id
+        )
+        INSERT INTO point_transactions (user_id, amount, transaction_type, description, related_id, related_type,
+                                        sequence_no, balance_after, created_at)
+        SELECT :userId, :amount, :transactionType, CAST(:description AS TEXT), CAST(:relatedId AS BIGINT),
+               CAST(:relatedType AS VARCHAR), o.sequence_no + 1, o.balance + :amount, :now
+        FROM opening o
+        WHERE o.balance + :amount >= 0
+        RETURNING id, sequence_no, balance_after, created_at
+        """;
+
+    /**
+     * 이미 지급받은 사용자를 제외한 대상에게 users.points 증가 → 거래 기록 → 누적 요약/일별 집계 갱신
+     */
+    private static final String GRANT_IN_BULK_SQL = """
+        WITH targets AS (
+            SELECT u.id
+            FROM users u
+            WHERE u.id IN (:userIds) AND u.status = 'ACTIVE'
+              AND NOT EXISTS (
+                  SELECT 1 FROM point_transactions pt
+                  WHERE pt.user_id = u.id AND pt.related_type = 'EVENT' AND pt.related_id = :campaignId
+              )
+        ), credited AS (
+            UPDATE users u
+            SET points = u.points + :amount, version = u.version + 1, updated_at = :now
+            FROM targets t
+            WHERE u.id = t.id
+            RETURNING u.id, u.points
+        ), inserted AS (
+            INSERT INTO point_transactions (user_id, amount, transaction_type, description, related_id, related_type,
+                                            balance_after, created_at)
+            SELECT c.id, :amount, 'EARNED', :description, :campaignId, 'EVENT', c.points, :now
+            FROM credited c
+            RETURNING id, user_id, balance_after
+        ), summarized AS (
+            INSERT INTO user_point_summary (user_id, total_earned, total_spent, transaction_count, last_transaction_at)
+            SELECT i.user_id, :amount, 0, 1, :now
+            FROM inserted i
+            ON CONFLICT (user_id) DO UPDATE SET
+                total_earned = user_point_summary.total_earned + EXCLUDED.total_earned,
+                transaction_count = user_point_summary.transaction_count + 1,
+                last_transaction_at = GREATEST(user_point_summary.last_transaction_at, EXCLUDED.last_transaction_at)
+        ), rolled AS (
+            INSERT INTO point_daily_rollups (user_id, stat_date, transaction_type, earned, spent, transaction_count)
+            SELECT i.user_id, CAST(:now AS DATE), 'EARNED', :amount, 0, 1
+            FROM inserted i
+            ON CONFLICT (user_id, stat_date, transaction_type) DO UPDATE SET
+                earned = point_daily_rollups.earned + EXCLUDED.earned,
+                transaction_count = point_daily_rollups.transaction_count + 1
+        )
+        SELECT id, user_id, balance_after FROM inserted
+        """;
+
+    /**
+     * 원장 모드 일괄 지급 - 사용자별 마지막 원장 거래(없으면 스냅샷)에 이어서 원장 거래 추가 (users는 갱신하지 않음)
+     */
+    private static final String GRANT_IN_BULK_LEDGER_SQL = """
+        WITH targets AS (
+            SELECT u.id
+            FROM users u
+            WHERE u.id IN (:userIds) AND u.status = 'ACTIVE'
+              AND NOT EXISTS (
+                  SELECT 1 FROM point_transactions pt
+                  WHERE pt.user_id = u.id AND pt.related_type = 'EVENT' AND pt.related_id = :campaignId
+              )
+        ), last AS (
+            SELECT DISTINCT ON (pt.user_id) pt.user_id, pt.sequence_no, pt.balance_after
+            FROM point_transactions pt
+            JOIN targets t ON t.id = pt.user_id
+            WHERE pt.sequence_no IS NOT NULL
+            ORDER BY pt.user_id, pt.sequence_no DESC
+        ), inserted AS (
+            INSERT INTO point_transactions (user_id, amount, transaction_type, description, related_id, related_type,
+                                            sequence_no, balance_after, created_at)
+            SELECT t.id, :amount, 'EARNED', :description, :campaignId, 'EVENT',
+                   COALESCE(l.sequence_no, s.sequence_no, 0) + 1,
+                   COALESCE(l.balance_after, s.balance, 0) + :amount,
+                   :now
+            FROM targets t
+            LEFT JOIN last l ON l.user_id = t.id
+            LEFT JOIN point_balance_snapshots s ON s.user_id = t.id
+            RETURNING id, user_id, balance_after
+        ), summarized AS (
+            INSERT INTO user_point_summary (user_id, total_earned, total_spent, transaction_count, last_transaction_at)
+            SELECT i.user_id, :amount, 0, 1, :now
+            FROM inserted i
+            ON CONFLICT (user_id) DO UPDATE SET
+                total_earned = user_point_summary.total_earned + EXCLUDED.total_earned,
+                transaction_count = user_point_summary.transaction_count + 1,
+                last_transaction_at = GREATEST(user_point_summary.last_transaction_at, EXCLUDED.last_transaction_at)
+        ), rolled AS (
+            INSERT INTO point_daily_rollups (user_id, stat_date, transaction_type, earned, spent, transaction_count)
+            SELECT i.user_id, CAST(:now AS DATE), 'EARNED', :amount, 0, 1
+            FROM inserted i
+            ON CONFLICT (user_id, stat_date, transaction_type) DO UPDATE SET
+                earned = point_daily_rollups.earned + EXCLUDED.earned,
+                transaction_count = point_daily_rollups.transaction_count + 1
+        )
+        SELECT id, user_id, balance_after FROM inserted
+        """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Page<PointTransaction> findTransactionsWithFilters(Long userId, TransactionType transactionType,
@@ -63,55 +180,6 @@ public class PointTransactionRepositoryImpl implements PointTransactionRepositor
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
-    @Override
-    public List<Object[]> getMonthlyTransactionStats(Long userId, int months) {
-        QPointTransaction pointTransaction = QPointTransaction.pointTransaction;
-        LocalDateTime startDate = LocalDateTime.now().minusMonths(months);
-
-        return queryFactory
-                .select(
-                    Expressions.stringTemplate("DATE_TRUNC('month', {0})", pointTransaction.createdAt),
-                    pointTransaction.transactionType,
-                    pointTransaction.amount.sum(),
-                    pointTransaction.count()
-                )
-                .from(pointTransaction)
-                .where(
-                    pointTransaction.user.id.eq(userId)
-                    .and(pointTransaction.createdAt.goe(startDate))
-                )
-                .groupBy(
-                    Expressions.stringTemplate("DATE_TRUNC('month', {0})", pointTransaction.createdAt),
-                    pointTransaction.transactionType
-                )
-                .orderBy(Expressions.stringTemplate("DATE_TRUNC('month', {0})", pointTransaction.createdAt).asc())
-                .fetch();
-    }
-
-    @Override
-    public List<Object[]> getDailyTransactionStats(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        QPointTransaction pointTransaction = QPointTransaction.pointTransaction;
-
-        return queryFactory
-                .select(
-                    Expressions.stringTemplate("DATE_TRUNC('day', {0})", pointTransaction.createdAt),
-                    pointTransaction.transactionType,
-                    pointTransaction.amount.sum(),
-                    pointTransaction.count()
-                )
-                .from(pointTransaction)
-                .where(
-                    pointTransaction.user.id.eq(userId)
-                    .and(pointTransaction.createdAt.between(startDate, endDate))
-                )
-                .groupBy(
-                    Expressions.stringTemplate("DATE_TRUNC('day', {0})", pointTransaction.createdAt),
-                    pointTransaction.transactionType
-                )
-                .orderBy(Expressions.stringTemplate("DATE_TRUNC('day', {0})", pointTransaction.createdAt).asc())
-                .fetch();
-    }
-
     @Override
     public Integer getTotalEarnedByUser(Long userId) {
         QPointTransaction pointTransaction = QPointTransaction.pointTransaction;
@@ -145,58 +213,71 @@ public class PointTransactionRepositoryImpl implements PointTransactionRepositor
     }
 
     @Override
-    public java.util.Map<String, Integer> getEarningsByTransactionType(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+    public List<PointTransaction> findTransactionsByCursor(Long userId, RelatedType relatedType,
+                                                           LocalDateTime startDate, LocalDateTime endDate,
+                                                           LocalDateTime cursorCreatedAt, Long cursorId,
+                                                           int limit) {
         QPointTransaction pointTransaction = QPointTransaction.pointTransaction;
 
-        List<Object[]> results = queryFactory
-                .select(
-                    pointTransaction.transactionType,
-                    pointTransaction.amount.sum()
-                )
-                .from(pointTransaction)
-                .where(
-                    pointTransaction.user.id.eq(userId)
-                    .and(pointTransaction.amount.gt(0)) // 양수만 (획득)
-                    .and(pointTransaction.createdAt.between(startDate, endDate))
-                )
-                .groupBy(pointTransaction.transactionType)
-                .fetch();
+        BooleanExpression condition = pointTransaction.user.id.eq(userId);
 
-        java.util.Map<String, Integer> earnings = new java.util.HashMap<>();
-        for (Object[] result : results) {
-            TransactionType type = (TransactionType) result[0];
-            Integer amount = (Integer) result[1];
-            earnings.put(type.name(), amount != null ? amount : 0);
+        if (relatedType != null) {
+            condition = condition.and(pointTransaction.relatedType.eq(relatedType));
         }
 
-        return earnings;
-    }
+        if (startDate != null) {
+            condition = condition.and(pointTransaction.createdAt.goe(startDate));
+        }
 
-    @Override
-    public java.util.Map<String, Integer> getSpendingByTransactionType(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        QPointTransaction pointTransaction = QPointTransaction.pointTransaction;
+        if (endDate != null) {
+            condition = condition.and(pointTransaction.createdAt.loe(endDate));
+        }
 
-        List<Object[]> results = queryFactory
-                .select(
-                    pointTransaction.transactionType,
-                    pointTransaction.amount.sum()
-                )
-                .from(pointTransaction)
-                .where(
-                    pointTransaction.user.id.eq(userId)
-                    .and(pointTransaction.amount.lt(0)) // 음수만 (사용)
-                    .and(pointTransaction.createdAt.between(startDate, endDate))
-                )
-                .groupBy(pointTransaction.transactionType)
+        // (createdAt, id) < (cursorCreatedAt, cursorId) - idx_point_transactions_user_created_id 사용
+        if (cursorCreatedAt != null && cursorId != null) {
+            condition = condition.and(
+                pointTransaction.createdAt.lt(cursorCreatedAt)
+                .or(pointTransaction.createdAt.eq(cursorCreatedAt).and(pointTransaction.id.lt(cursorId)))
+            );
+        }
+
+        return queryFactory
+                .selectFrom(pointTransaction)
+                .where(condition)
+                .orderBy(pointTransaction.createdAt.desc(), pointTransaction.id.desc())
+                .limit(limit)
                 .fetch();
+    }
 
-        java.util.Map<String, Integer> spending = new java.util.HashMap<>();
-        for (Object[] result : results) {
-            TransactionType type = (TransactionType) result[0];
-            Integer amount = (Integer) result[1];
-            spending.put(type.name(), amount != null ? Math.abs(amount) : 0); // 절댓값으로 반환
-        }
+    @Override
+    public Optional<Object[]> appendLedgerEntry(Long userId, int amount, TransactionType transactionType,
+                                                String description, Long relatedId, RelatedType relatedType,
+                                                LocalDateTime now) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = LedgerConflicts.translate(() -> entityManager.createNativeQuery(APPEND_LEDGER_ENTRY_SQL)
+                .setParameter("userId", userId)
+                .setParameter("amount", amount)
+                .setParameter("transactionType", transactionType.name())
+                .setParameter("description", description)
+                .setParameter("relatedId", relatedId)
+                .setParameter("relatedType", relatedType != null ? relatedType.name() : null)
+                .setParameter("now", now)
+                .getResultList());
 
-        return spending;
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> grantInBulk(Long campaignId, List<Long> userIds, int amount, String description,
+                                      boolean ledger, LocalDateTime now) {
+        return LedgerConflicts.translate(() -> entityManager.createNativeQuery(
+                        ledger ? GRANT_IN_BULK_LEDGER_SQL : GRANT_IN_BULK_SQL)
+                .setParameter("campaignId", campaignId)
+                .setParameter("userIds", userIds)
+                .setParameter("amount", amount)
+                .setParameter("description", description)
+                .setParameter("now", now)
+                .getResultList());
     }
 }
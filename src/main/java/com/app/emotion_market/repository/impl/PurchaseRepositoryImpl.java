@@ -1,11 +1,14 @@
 package com.app.emotion_market.repository.impl;
 
 import com.app.emotion_market.entity.Purchase;
-import com.app.emotion_market.enumType.PurchaseStatus;
+import com.app.emotion_market.enums.PurchaseStatus;
 import com.app.emotion_market.entity.QPurchase;
+import com.app.emotion_market.entity.QSystemEmotion;
 import com.app.emotion_market.repository.custom.PurchaseRepositoryCustom;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -14,12 +17,142 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class PurchaseRepositoryImpl implements PurchaseRepositoryCustom {
 
+    /**
+     * 감정 조회 → 포인트 차감(잔액/중복 조건) → 구매 기록 → 구매 수 증가를 하나의 문장으로 실행
+     * 조건 중 하나라도 실패하면 debit CTE가 비어 이후 단계가 모두 실행되지 않음
+     * checkDuplicate가 false이면 중복 구매 서브쿼리를 실행하지 않음
+     * READ COMMITTED에서는 NOT EXISTS만으로 같은 사용자의 동시 구매를 막지 못하므로 PURCHASE_LOCK_SQL 이후에 실행
+     */
+    private static final String ATOMIC_PURCHASE_SQL = """
+        WITH emotion AS (
+            SELECT id, name, emotion_type, price
+            FROM system_emotions
+            WHERE id = :emotionId AND is_active = true
+        ), debit AS (
+            UPDATE users u
+            SET points = u.points - e.price, version = u.version + 1, updated_at = :now
+            FROM emotion e
+            WHERE u.id = :userId
+              AND u.points >= e.price
+              AND (NOT :checkDuplicate OR NOT EXISTS (
+                  SELECT 1 FROM purchases p
+                  WHERE p.user_id = :userId AND p.emotion_id = e.id
+                    AND p.status = 'ACTIVE' AND p.created_at > :duplicateSince
+              ))
+            RETURNING u.points AS balance_after, e.price AS price
+        ), inserted AS (
+            INSERT INTO purchases (user_id, emotion_id, points_spent, purchase_message, status,
+                                   access_count, expiry_notice_level, expires_at, created_at, updated_at)
+            SELECT :userId, :emotionId, d.price, CAST(:purchaseMessage AS TEXT), 'ACTIVE', 0, 0, :expiresAt, :now, :now
+            FROM debit d
+            RETURNING id, created_at, expires_at
+        ), bumped AS (
+            UPDATE system_emotions se
+            SET total_purchases = se.total_purchases + 1
+            FROM inserted i
+            WHERE se.id = :emotionId
+            RETURNING se.id
+        )
+        SELECT i.id, d.balance_after, d.price, e.name, e.emotion_type, i.created_at, i.expires_at
+        FROM inserted i CROSS JOIN debit d CROSS JOIN emotion e
+        """;
+
+    /**
+     * 원장 모드 구매 - 마지막 원장 거래(없으면 스냅샷)의 잔액으로 검사한 뒤 구매 기록과 차감 원장 거래를 함께 추가
+     * 같은 사용자의 동시 구매는 원장의 (user_id, sequence_no) 유일 제약으로 하나만 성공
+     * 중복 구매 검사는 ATOMIC_PURCHASE_SQL과 마찬가지로 PURCHASE_LOCK_SQL 이후에 실행해야 유효
+     */
+    private static final String LEDGER_PURCHASE_SQL = """
+        WITH emotion AS (
+            SELECT id, name, emotion_type, price
+            FROM system_emotions
+            WHERE id = :emotionId AND is_active = true
+        ), last AS (
+            SELECT sequence_no, balance_after
+            FROM point_transactions
+            WHERE user_id = :userId AND sequence_no IS NOT NULL
+            ORDER BY sequence_no DESC
+            LIMIT 1
+        ), opening AS (
+            SELECT COALESCE((SELECT sequence_no FROM last), s.sequence_no, 0) AS sequence_no,
+                   COALESCE((SELECT balance_after FROM last), s.balance, 0) AS balance
+            FROM users u
+            LEFT JOIN point_balance_snapshots s ON s.user_id = u.id
+            WHERE u.id = :userId
+        ), inserted AS (
+            INSERT INTO purchases (user_id, emotion_id, points_spent, purchase_message, status,
+                                   access_count, expiry_notice_level, expires_at, created_at, updated_at)
+            SELECT :userId, e.id, e.price, CAST(:purchaseMessage AS TEXT), 'ACTIVE', 0, 0, :expiresAt, :now, :now
+            FROM emotion e CROSS JOIN opening o
+            WHERE o.balance >= e.price
+              AND (NOT :checkDuplicate OR NOT EXISTS (
+                  SELECT 1 FROM purchases p
+                  WHERE p.user_id = :userId AND p.emotion_id = e.id
+                    AND p.status = 'ACTIVE' AND p.created_at > :duplicateSince
+              ))
+            RETURNING id, points_spent, created_at, expires_at
+        ), debit AS (
+            INSERT INTO point_transactions (user_id, amount, transaction_type, description, related_id, related_type,
+                                            sequence_no, balance_after, created_at)
+            SELECT :userId, -i.points_spent, 'SPENT', '감정 구매 (' || e.name || ')', i.id, 'EMOTION_PURCHASE',
+                   o.sequence_no + 1, o.balance - i.points_spent, :now
+            FROM inserted i CROSS JOIN emotion e CROSS JOIN opening o
+            RETURNING id, balance_after
+        ), bumped AS (
+            UPDATE system_emotions se
+            SET total_purchases = se.total_purchases + 1
+            FROM inserted i
+            WHERE se.id = :emotionId
+            RETURNING se.id
+        )
+        SELECT i.id, d.balance_after, i.points_spent, e.name, e.emotion_type, i.created_at, i.expires_at, d.id
+        FROM inserted i CROSS JOIN debit d CROSS JOIN emotion e
+        """;
+
+    /**
+     * 사용자별 트랜잭션 범위 advisory lock (노드와 무관하게 같은 사용자의 구매를 직렬화, 커밋/롤백 시 해제)
+     * 구매 문장과 분리해 먼저 실행해야 구매 문장이 잠금 획득 이후의 스냅샷으로 중복 구매를 검사함
+     */
+    private static final String PURCHASE_LOCK_SQL = """
+        SELECT 1 FROM (SELECT pg_advisory_xact_lock(:userId)) l
+        """;
+
+    /**
+     * 리뷰 저장과 감정 상품 평점 합계/개수 증분 갱신을 하나의 문장으로 실행
+     * 기존 평점을 잠근 상태로 읽어 수정이면 차이만, 첫 평점이면 개수까지 반영
+     */
+    private static final String APPLY_REVIEW_SQL = """
+        WITH previous AS (
+            SELECT id, emotion_id, rating
+            FROM purchases
+            WHERE id = :purchaseId AND user_id = :userId
+            FOR UPDATE
+        ), reviewed AS (
+            UPDATE purchases p
+            SET rating = :rating, review_comment = CAST(:reviewComment AS TEXT), updated_at = :now
+            FROM previous prev
+            WHERE p.id = prev.id
+            RETURNING p.emotion_id, prev.rating AS previous_rating
+        )
+        UPDATE system_emotions se
+        SET rating_sum = se.rating_sum + :rating - COALESCE(r.previous_rating, 0),
+            rating_count = se.rating_count + CASE WHEN r.previous_rating IS NULL THEN 1 ELSE 0 END,
+            average_rating = ROUND(
+                CAST(se.rating_sum + :rating - COALESCE(r.previous_rating, 0) AS NUMERIC)
+                / (se.rating_count + CASE WHEN r.previous_rating IS NULL THEN 1 ELSE 0 END), 2)
+        FROM reviewed r
+        WHERE se.id = r.emotion_id
+        RETURNING se.id
+        """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Page<Purchase> findPurchasesWithFilters(Long userId, PurchaseStatus status,
@@ -130,4 +263,99 @@ public class PurchaseRepositoryImpl implements PurchaseRepositoryCustom {
                 .limit(limit)
                 .fetch();
     }
+
+    @Override
+    public Optional<Object[]> purchaseAtomically(Long userId, Long emotionId, String purchaseMessage,
+                                                 boolean checkDuplicate, LocalDateTime duplicateSince,
+                                                 LocalDateTime now, LocalDateTime expiresAt) {
+        return runPurchase(ATOMIC_PURCHASE_SQL, userId, emotionId, purchaseMessage,
+                checkDuplicate, duplicateSince, now, expiresAt);
+    }
+
+    @Override
+    public Optional<Object[]> purchaseWithLedger(Long userId, Long emotionId, String purchaseMessage,
+                                                 boolean checkDuplicate, LocalDateTime duplicateSince,
+                                                 LocalDateTime now, LocalDateTime expiresAt) {
+        return runPurchase(LEDGER_PURCHASE_SQL, userId, emotionId, purchaseMessage,
+                checkDuplicate, duplicateSince, now, expiresAt);
+    }
+
+    private Optional<Object[]> runPurchase(String sql, Long userId, Long emotionId, String purchaseMessage,
+                                           boolean checkDuplicate, LocalDateTime duplicateSince,
+                                           LocalDateTime now, LocalDateTime expiresAt) {
+        entityManager.createNativeQuery(PURCHASE_LOCK_SQL)
+                .setParameter("userId", userId)
+                .getSingleResult();
+
+        // 원장 모드에서 다른 원장 추가와 순번이 겹치면 DuplicateKeyException
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = LedgerConflicts.translate(() -> entityManager.createNativeQuery(sql)
+                .setParameter("userId", userId)
+                .setParameter("emotionId", emotionId)
+                .setParameter("purchaseMessage", purchaseMessage)
+                .setParameter("checkDuplicate", checkDuplicate)
+                .setParameter("duplicateSince", duplicateSince)
+                .setParameter("now", now)
+                .setParameter("expiresAt", expiresAt)
+                .getResultList());
+
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public Optional<Object[]> findAccessibleContent(Long userId, Long purchaseId, LocalDateTime now) {
+        QPurchase purchase = QPurchase.purchase;
+        QSystemEmotion emotion = QSystemEmotion.systemEmotion;
+
+        Tuple row = queryFactory
+                .select(purchase.id, emotion.id, emotion.name, emotion.emotionType, emotion.contentsVersion,
+                        purchase.createdAt, purchase.expiresAt, purchase.accessCount)
+                .from(purchase)
+                .join(purchase.emotion, emotion)
+                .where(
+                    purchase.id.eq(purchaseId)
+                    .and(purchase.user.id.eq(userId))
+                    .and(purchase.status.eq(PurchaseStatus.ACTIVE))
+                    .and(purchase.expiresAt.after(now))
+                )
+                .fetchOne();
+
+        return Optional.ofNullable(row).map(Tuple::toArray);
+    }
+
+    @Override
+    public Optional<Long> applyReview(Long userId, Long purchaseId, Integer rating, String reviewComment,
+                                      LocalDateTime now) {
+        @SuppressWarnings("unchecked")
+        List<Object> rows = entityManager.createNativeQuery(APPLY_REVIEW_SQL)
+                .setParameter("userId", userId)
+                .setParameter("purchaseId", purchaseId)
+                .setParameter("rating", rating)
+                .setParameter("reviewComment", reviewComment)
+                .setParameter("now", now)
+                .getResultList();
+
+        return rows.stream().findFirst().map(id -> ((Number) id).longValue());
+    }
+
+    @Override
+    public List<Object[]> findActiveExpiries(LocalDateTime from, LocalDateTime to, long afterId, int limit) {
+        QPurchase purchase = QPurchase.purchase;
+
+        return queryFactory
+                .select(purchase.id, purchase.user.id, purchase.emotion.id, purchase.expiresAt)
+                .from(purchase)
+                .where(
+                    purchase.status.eq(PurchaseStatus.ACTIVE)
+                    .and(purchase.expiresAt.gt(from))
+                    .and(purchase.expiresAt.loe(to))
+                    .and(purchase.id.gt(afterId))
+                )
+                .orderBy(purchase.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(Tuple::toArray)
+                .toList();
+    }
 }
@@ -1,10 +1,17 @@
 package com.app.emotion_market.repository.impl;
 
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
 import com.app.emotion_market.entity.*;
-import com.app.emotion_market.enumType.EmotionType;
+import com.app.emotion_market.enums.EmotionType;
 import com.app.emotion_market.repository.custom.SystemEmotionRepositoryCustom;
+import com.app.emotion_market.service.catalog.CatalogItem;
+import com.app.emotion_market.service.catalog.CatalogKeywords;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,12 +21,18 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class SystemEmotionRepositoryImpl implements SystemEmotionRepositoryCustom {
 
+    private static final int CATALOG_NAME_SCORE = 4;
+    private static final int CATALOG_TYPE_SCORE = 2;
+    private static final int CATALOG_DESCRIPTION_SCORE = 1;
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -124,6 +137,122 @@ public class SystemEmotionRepositoryImpl implements SystemEmotionRepositoryCusto
                 .fetch();
     }
 
+    @Override
+    public List<CatalogItem> findActiveCatalogItems() {
+        QSystemEmotion systemEmotion = QSystemEmotion.systemEmotion;
+
+        // contents(jsonb)는 목록에서 쓰지 않으므로 조회하지 않음
+        return queryFactory
+                .select(Projections.constructor(CatalogItem.class,
+                        systemEmotion.id,
+                        systemEmotion.emotionType,
+                        systemEmotion.name,
+                        systemEmotion.description,
+                        systemEmotion.emoji,
+                        systemEmotion.categoryId,
+                        systemEmotion.price,
+                        systemEmotion.averageRating,
+                        systemEmotion.totalPurchases,
+                        systemEmotion.sortOrder,
+                        systemEmotion.createdAt,
+                        systemEmotion.previewMusic,
+                        systemEmotion.previewVideo,
+                        systemEmotion.previewText,
+                        systemEmotion.previewGuide
+                ))
+                .from(systemEmotion)
+                .where(systemEmotion.isActive.isTrue())
+                .fetch();
+    }
+
+    @Override
+    public Page<CatalogItem> searchCatalogItems(ShopSearchCondition condition, Pageable pageable) {
+        if (CatalogKeywords.hasNoSearchableWords(condition.getKeyword())) {
+            return Page.empty(pageable);
+        }
+
+        QSystemEmotion systemEmotion = QSystemEmotion.systemEmotion;
+        List<String> words = CatalogKeywords.words(CatalogKeywords.normalize(condition.getKeyword()));
+        NumberExpression<BigDecimal> rating = systemEmotion.averageRating.coalesce(BigDecimal.ZERO);
+
+        BooleanExpression predicate = systemEmotion.isActive.isTrue()
+                .and(condition.getCategoryId() != null ? systemEmotion.categoryId.eq(condition.getCategoryId().intValue()) : null)
+                .and(condition.getEmotionType() != null ? systemEmotion.emotionType.eq(condition.getEmotionType()) : null)
+                .and(condition.getMinPrice() != null ? systemEmotion.price.goe(condition.getMinPrice()) : null)
+                .and(condition.getMaxPrice() != null ? systemEmotion.price.loe(condition.getMaxPrice()) : null)
+                .and(condition.getMinRating() != null ? rating.goe(BigDecimal.valueOf(condition.getMinRating())) : null);
+
+        // 검색 색인과 같은 규칙: 모든 단어가 이름/감정 유형/설명 중 하나에 포함되어야 하고 점수는 4/2/1
+        NumberExpression<Integer> score = Expressions.asNumber(0);
+        for (String word : words) {
+            BooleanExpression inName = systemEmotion.name.lower().contains(word);
+            BooleanExpression inDescription = systemEmotion.description.lower().contains(word);
+            BooleanExpression inType = typeNameContains(systemEmotion, word);
+
+            BooleanExpression matches = inName.or(inDescription);
+            score = score.add(new CaseBuilder().when(inName).then(CATALOG_NAME_SCORE).otherwise(0))
+                    .add(new CaseBuilder().when(inDescription).then(CATALOG_DESCRIPTION_SCORE).otherwise(0));
+            if (inType != null) {
+                matches = matches.or(inType);
+                score = score.add(new CaseBuilder().when(inType).then(CATALOG_TYPE_SCORE).otherwise(0));
+            }
+            predicate = predicate.and(matches);
+        }
+
+        // 점수 내림차순, 동점이면 스냅샷 인기순(CatalogSort.POPULARITY)과 같은 순서
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        if (!words.isEmpty()) {
+            orders.add(score.desc());
+        }
+        orders.add(systemEmotion.totalPurchases.desc());
+        orders.add(rating.desc());
+        orders.add(systemEmotion.id.asc());
+
+        // contents(jsonb)는 조회하지 않음
+        List<CatalogItem> content = queryFactory
+                .select(Projections.constructor(CatalogItem.class,
+                        systemEmotion.id,
+                        systemEmotion.emotionType,
+                        systemEmotion.name,
+                        systemEmotion.description,
+                        systemEmotion.emoji,
+                        systemEmotion.categoryId,
+                        systemEmotion.price,
+                        systemEmotion.averageRating,
+                        systemEmotion.totalPurchases,
+                        systemEmotion.sortOrder,
+                        systemEmotion.createdAt,
+                        systemEmotion.previewMusic,
+                        systemEmotion.previewVideo,
+                        systemEmotion.previewText,
+                        systemEmotion.previewGuide
+                ))
+                .from(systemEmotion)
+                .where(predicate)
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = queryFactory
+                .select(systemEmotion.count())
+                .from(systemEmotion)
+                .where(predicate)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    /**
+     * 한글명이 검색어를 포함하는 감정 유형 (해당 유형이 없으면 null)
+     */
+    private BooleanExpression typeNameContains(QSystemEmotion systemEmotion, String word) {
+        List<EmotionType> matchingTypes = Arrays.stream(EmotionType.values())
+                .filter(type -> CatalogKeywords.normalize(type.getKoreanName()).contains(word))
+                .toList();
+        return matchingTypes.isEmpty() ? null : systemEmotion.emotionType.in(matchingTypes);
+    }
+
     private OrderSpecifier<?> getOrderSpecifier(QSystemEmotion systemEmotion, String sortBy) {
         if (sortBy == null) {
             return systemEmotion.sortOrder.asc();
@@ -0,0 +1,43 @@
+package com.app.emotion_market.scheduler;
+
+import com.app.emotion_market.service.PointLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 포인트 원장 스냅샷/검증 스케줄러 (원장 모드에서만 동작)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PointLedgerScheduler {
+
+    private static final int MAX_LOGGED_MISMATCHES = 100;
+
+    private final PointLedgerService pointLedgerService;
+
+    @Scheduled(cron = "${app.points.ledger.snapshot-cron:0 0 * * * *}")
+    public void takeSnapshots() {
+        if (!pointLedgerService.isEnabled()) {
+            return;
+        }
+        int advanced = pointLedgerService.takeSnapshots();
+        log.info("포인트 원장 스냅샷 갱신 완료: {}명", advanced);
+    }
+
+    @Scheduled(cron = "${app.points.ledger.verify-cron:0 0 5 * * *}")
+    public void verify() {
+        if (!pointLedgerService.isEnabled()) {
+            return;
+        }
+        List<PointLedgerService.LedgerMismatch> mismatches = pointLedgerService.verify();
+        mismatches.stream()
+                .limit(MAX_LOGGED_MISMATCHES)
+                .forEach(mismatch -> log.error("포인트 원장 불일치: {}", mismatch));
+        log.info("포인트 원장 검증 완료: 불일치 {}명", mismatches.size());
+    }
+}
@@ -0,0 +1,21 @@
+package com.app.emotion_market.scheduler;
+
+import com.app.emotion_market.service.PurchaseExpiryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 구매 상태 변경 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+public class PurchaseExpiryScheduler {
+
+    private final PurchaseExpiryService purchaseExpiryService;
+
+    @Scheduled(fixedDelayString = "${app.purchase.expiry.interval-ms:60000}")
+    public void expirePurchases() {
+        purchaseExpiryService.expirePurchases();
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.emotion_market.scheduler;
+
+import com.app.emotion_market.service.SystemEmotionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감정 상품 평점 합계/개수 정합성 점검 스케줄러
+ * 리뷰 작성 시 증분 갱신한 값을 구매 내역의 실제 집계와 비교해 다르면 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RatingReconciliationScheduler {
+
+    private final SystemEmotionService systemEmotionService;
+
+    @Scheduled(cron = "${app.rating.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        int corrected = systemEmotionService.reconcileRatings();
+        log.info("평점 정합성 점검 완료: 보정 {}건", corrected);
+    }
+}
@@ -32,6 +32,8 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final PointService pointService;
+    private final PointBalanceService pointBalanceService;
+    private final PointLedgerService pointLedgerService;
 
     /**
      * 회원가입
@@ -75,7 +77,7 @@ public class AuthService {
                 .userId(savedUser.getId())
                 .email(savedUser.getEmail())
                 .nickname(savedUser.getNickname())
-                .points(savedUser.getPoints())
+                .points(signupBalance(savedUser))
                 .mbtiType(savedUser.getMbtiType())
                 .profileImage(savedUser.getProfileImage())
                 .createdAt(savedUser.getCreatedAt())
@@ -98,9 +100,8 @@ public class AuthService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        // 마지막 로그인 시간 업데이트
-        user.updateLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        // 마지막 로그인 시간 업데이트 (동시에 진행 중인 포인트 변경과 버전 충돌하지 않도록 대상 UPDATE)
+        userRepository.updateLastLoginAt(user.getId(), LocalDateTime.now());
 
         log.info("사용자 로그인 완료: {}", user.getEmail());
 
@@ -108,7 +109,7 @@ public class AuthService {
                 .userId(user.getId())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
-                .points(user.getPoints())
+                .points(pointBalanceService.getBalance(user.getId()))
                 .accessToken(tokenDto.getAccessToken())
                 .refreshToken(tokenDto.getRefreshToken())
                 .tokenType(tokenDto.getGrantType())
@@ -116,6 +117,14 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * 가입 직후 잔액 (원장 모드에서는 users.points가 갱신되지 않으므로 원장 기준)
+     * 커밋 전이므로 잔액 캐시를 거치지 않고 조회
+     */
+    private Integer signupBalance(User user) {
+        return pointLedgerService.isEnabled() ? pointLedgerService.getBalance(user.getId()) : user.getPoints();
+    }
+
     /**
      * 토큰 갱신
      */
@@ -0,0 +1,138 @@
+package com.app.emotion_market.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 구매 콘텐츠 접근 횟수 집계기
+ * 조회마다 purchases 행을 갱신하지 않고 구매 ID별로 (횟수 합, 마지막 접근 시각)을 모아
+ * 주기적으로 JDBC 배치 UPDATE로 반영
+ * 조회 응답에는 아직 반영되지 않은 횟수를 더해 실시간 값처럼 보여줌
+ * 요청 스레드는 읽기 전용 트랜잭션 안에 있을 수 있으므로 보관 한도를 넘어도 직접 반영하지 않고 반영 전용 스레드에 맡김
+ */
+@Service
+@Slf4j
+public class ContentAccessTracker {
+
+    private static final String FLUSH_SQL = """
+        UPDATE purchases
+        SET access_count = access_count + ?,
+            last_accessed_at = GREATEST(COALESCE(last_accessed_at, ?), ?)
+        WHERE id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPending;
+
+    private final ConcurrentHashMap<Long, PendingAccess> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, PendingAccess> inFlight = new ConcurrentHashMap<>();
+
+    // 보관 한도 초과 시 조기 반영 (요청 스레드의 트랜잭션과 분리)
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(r -> new Thread(r, "content-access-flush"));
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public ContentAccessTracker(JdbcTemplate jdbcTemplate,
+                                @Value("${app.contents.access-tracking.max-pending:10000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 접근 1회 기록 후 이 접근을 포함한 미반영 횟수 반환
+     */
+    public int record(Long purchaseId, LocalDateTime accessedAt) {
+        // 보관 한도를 넘으면 반영 스레드에 조기 반영 요청 (반영이 끝날 때까지는 한도를 잠시 넘을 수 있음)
+        if (pending.size() >= maxPending && !pending.containsKey(purchaseId)) {
+            requestFlush();
+        }
+
+        PendingAccess merged = pending.merge(purchaseId, new PendingAccess(1, accessedAt), PendingAccess::merge);
+        PendingAccess flushing = inFlight.get(purchaseId);
+        return merged.count() + (flushing != null ? flushing.count() : 0);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 접근 횟수
+     */
+    public int pendingCount(Long purchaseId) {
+        PendingAccess queued = pending.get(purchaseId);
+        PendingAccess flushing = inFlight.get(purchaseId);
+        return (queued != null ? queued.count() : 0) + (flushing != null ? flushing.count() : 0);
+    }
+
+    /**
+     * 모아둔 접근 기록을 배치로 반영
+     */
+    @Scheduled(fixedDelayString = "${app.contents.access-tracking.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Long purchaseId : pending.keySet()) {
+            PendingAccess access = pending.remove(purchaseId);
+            if (access == null) {
+                continue;
+            }
+            inFlight.put(purchaseId, access);
+            Timestamp lastAccessedAt = Timestamp.valueOf(access.lastAccessedAt());
+            batch.add(new Object[]{access.count(), lastAccessedAt, lastAccessedAt, purchaseId});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("콘텐츠 접근 기록 반영: {}건", batch.size());
+        } catch (Exception e) {
+            // 실패한 기록은 다음 주기에 다시 시도
+            log.warn("콘텐츠 접근 기록 반영 실패: {}건, reason={}", batch.size(), e.getMessage());
+            inFlight.forEach((purchaseId, access) -> pending.merge(purchaseId, access, PendingAccess::merge));
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 종료 시 반영에 맡김
+            flushRequested.set(false);
+        }
+    }
+
+    private record PendingAccess(int count, LocalDateTime lastAccessedAt) {
+
+        PendingAccess merge(PendingAccess other) {
+            LocalDateTime latest = lastAccessedAt.isAfter(other.lastAccessedAt) ? lastAccessedAt : other.lastAccessedAt;
+            return new PendingAccess(count + other.count, latest);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.app.emotion_market.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 7일 내 중복 구매 확인용 블룸 필터
+ * 구매일 기준 일별 필터 8개를 돌려 쓰며, 어느 필터에도 없으면 "중복 아님"이 확실하므로 DB 확인을 생략
+ * 있다고 나오면 DB에서 실제 중복 여부를 확인 (오탐률은 확인 결과로 집계)
+ * 필터는 노드별 메모리에만 있어 다른 노드의 구매를 알 수 없으므로 기본값은 비활성화 (단일 노드에서만 켤 것)
+ */
+@Service
+@Slf4j
+public class DuplicatePurchaseFilter {
+
+    private static final int PARTITIONS = 8; // 7일 + 오늘
+    private static final int LOCK_STRIPES = 64; // 같은 (userId, emotionId)의 확인-기록을 직렬화
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int bitsPerPartition;
+    private final int hashCount;
+
+    private final AtomicLongArray[] partitions = new AtomicLongArray[PARTITIONS];
+    private final long[] partitionDays = new long[PARTITIONS];
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final AtomicLong negatives = new AtomicLong();
+    private final AtomicLong truePositives = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    public DuplicatePurchaseFilter(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.purchase.duplicate-filter.enabled:false}") boolean enabled,
+                                   @Value("${app.purchase.duplicate-filter.expected-per-day:100000}") int expectedPerDay,
+                                   @Value("${app.purchase.duplicate-filter.target-fpp:0.01}") double targetFpp) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2 (일별 필터 8개를 OR로 조회하므로 목표 오탐률을 나눠서 적용)
+        double partitionFpp = targetFpp / PARTITIONS;
+        long bits = (long) Math.ceil(-expectedPerDay * Math.log(partitionFpp) / (Math.log(2) * Math.log(2)));
+        this.bitsPerPartition = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitsPerPartition / expectedPerDay * Math.log(2)));
+
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new AtomicLongArray((bitsPerPartition + 63) / 64);
+            partitionDays[i] = Long.MIN_VALUE;
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 구매 시도를 기록하고, 기록 전에 최근 7일 내 같은 감정을 구매했을 가능성이 있었는지 반환 (false면 중복이 아님이 확실)
+     * 같은 쌍의 확인과 기록은 잠금 안에서 한 번에 처리하므로 동시 시도 중 하나만 false를 받음
+     * 구매가 실패해도 넣어 두며, 그 경우 이후 조회에서 오탐으로 집계됨
+     */
+    public boolean put(Long userId, Long emotionId, LocalDateTime purchasedAt) {
+        if (!enabled) {
+            return true;
+        }
+
+        long hash = hash(userId, emotionId);
+        AtomicLongArray partition = partitionFor(purchasedAt.toLocalDate().toEpochDay());
+        synchronized (locks[(int) (hash >>> 58)]) {
+            boolean mightContain = mightContain(hash);
+            add(partition, hash);
+            return mightContain;
+        }
+    }
+
+    private boolean mightContain(long hash) {
+        long today = LocalDate.now().toEpochDay();
+        for (int i = 0; i < PARTITIONS; i++) {
+            long day;
+            AtomicLongArray bits;
+            synchronized (partitionDays) {
+                day = partitionDays[i];
+                bits = partitions[i];
+            }
+            if (day > today - PARTITIONS && contains(bits, hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필터 판단 결과와 DB 확인 결과 집계
+     *
+     * @param mightContain 필터가 중복 가능성이 있다고 판단했는지
+     * @param duplicate    DB 확인 결과 실제 중복이었는지 (필터가 아니라고 판단한 경우 무시)
+     */
+    public void recordCheck(boolean mightContain, boolean duplicate) {
+        if (!enabled) {
+            return;
+        }
+        if (!mightContain) {
+            negatives.incrementAndGet();
+        } else if (duplicate) {
+            truePositives.incrementAndGet();
+        } else {
+            falsePositives.incrementAndGet();
+        }
+    }
+
+    /**
+     * 오탐률 = 오탐 / (오탐 + 필터에서 걸러진 건수)
+     */
+    public double falsePositiveRate() {
+        long fp = falsePositives.get();
+        long denominator = fp + negatives.get();
+        return denominator == 0 ? 0.0 : (double) fp / denominator;
+    }
+
+    /**
+     * 애플리케이션 시작 시 최근 7일 구매로 필터 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate since = LocalDate.now().minusDays(PARTITIONS - 1);
+        long[] loaded = {0};
+        jdbcTemplate.query("""
+                SELECT user_id, emotion_id, CAST(created_at AS DATE) AS purchased_on
+                FROM purchases
+                WHERE created_at >= ? AND status = 'ACTIVE'
+                """,
+                rs -> {
+                    add(partitionFor(rs.getDate("purchased_on").toLocalDate().toEpochDay()),
+                            hash(rs.getLong("user_id"), rs.getLong("emotion_id")));
+                    loaded[0]++;
+                },
+                Date.valueOf(since));
+
+        log.info("중복 구매 필터 적재 완료: {}건, 필터 크기={}bit x {}, 해시 {}개",
+                loaded[0], bitsPerPartition, PARTITIONS, hashCount);
+    }
+
+    /**
+     * 구매일에 해당하는 일별 필터 (다른 날짜가 쓰던 칸이면 비우고 재사용)
+     */
+    private AtomicLongArray partitionFor(long epochDay) {
+        int index = (int) Math.floorMod(epochDay, (long) PARTITIONS);
+        synchronized (partitionDays) {
+            if (partitionDays[index] != epochDay) {
+                if (partitionDays[index] != Long.MIN_VALUE) {
+                    log.info("중복 구매 필터 교체: day={}, 오탐률={}", epochDay, String.format("%.4f", falsePositiveRate()));
+                }
+                partitions[index] = new AtomicLongArray(partitions[index].length());
+                partitionDays[index] = epochDay;
+            }
+            return partitions[index];
+        }
+    }
+
+    private void add(AtomicLongArray bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitsPerPartition);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean contains(AtomicLongArray bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitsPerPartition);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * (userId, emotionId) 64bit 해시 (splitmix64 마무리 연산)
+     */
+    private static long hash(long userId, long emotionId) {
+        long z = userId * 0x9E3779B97F4A7C15L + emotionId;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
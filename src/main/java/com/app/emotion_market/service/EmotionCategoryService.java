@@ -1,18 +1,29 @@
 package com.app.emotion_market.service;
 
 import com.app.emotion_market.entity.EmotionCategory;
+import com.app.emotion_market.event.CatalogChangedEvent;
 import com.app.emotion_market.repository.EmotionCategoryRepository;
 import com.app.emotion_market.repository.SystemEmotionRepository;
+import com.app.emotion_market.service.catalog.EmotionCatalogService;
+import com.app.emotion_market.service.catalog.EmotionCatalogService.CatalogVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 감정 카테고리 관리 서비스
+ * 카테고리 통계는 메모리 스냅샷으로 보관하고, 이 노드의 관리자 변경은 즉시, 다른 노드의 상품 변경은 카탈로그 버전 확인으로,
+ * 구매 수처럼 집계 값만 바뀐 경우와 다른 노드의 카테고리 변경은 최대 보관 시간이 지나면 다시 만듦
  */
 @Service
 @RequiredArgsConstructor
@@ -22,6 +33,18 @@ public class EmotionCategoryService {
 
     private final EmotionCategoryRepository emotionCategoryRepository;
     private final SystemEmotionRepository systemEmotionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmotionCatalogService emotionCatalogService;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicReference<CategoryStatsSnapshot> categoryStatsSnapshot = new AtomicReference<>();
+
+    @Value("${app.catalog.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    // 다른 노드 변경 확인 간격 (요청마다 버전을 조회하지 않도록)
+    @Value("${app.catalog.refresh-interval-ms:5000}")
+    private long probeIntervalMs;
 
     /**
      * 모든 활성 카테고리 조회 (정렬 순서대로)
@@ -60,24 +83,53 @@ public class EmotionCategoryService {
 
     /**
      * 카테고리 통계 정보와 함께 조회
+     * 감정 상품/카테고리가 변경되지 않았다면 메모리 스냅샷을 그대로 반환
      */
     public List<CategoryWithStats> findCategoriesWithStats() {
-        List<EmotionCategory> categories = findAllActiveCategories();
-        
-        return categories.stream()
-                .map(category -> {
-                    Long emotionCount = countEmotionsByCategory(category.getId());
-                    Double averagePrice = getAveragePriceByCategory(category.getId());
-                    Long totalPurchases = getTotalPurchasesByCategory(category.getId());
-                    
-                    return CategoryWithStats.builder()
-                            .category(category)
-                            .emotionCount(emotionCount)
-                            .averagePrice(averagePrice != null ? averagePrice : 0.0)
-                            .totalPurchases(totalPurchases != null ? totalPurchases : 0L)
-                            .build();
-                })
+        long version = catalogVersion.get();
+        long now = System.currentTimeMillis();
+        CategoryStatsSnapshot snapshot = categoryStatsSnapshot.get();
+        if (snapshot != null && snapshot.version() == version && now - snapshot.builtAt() < maxAgeMs) {
+            if (now - snapshot.probedAt() < probeIntervalMs) {
+                return snapshot.categories();
+            }
+            // 다른 노드의 상품 변경 확인 (바뀌지 않았으면 확인 시각만 갱신)
+            if (emotionCatalogService.currentVersion().equals(snapshot.catalogVersion())) {
+                categoryStatsSnapshot.compareAndSet(snapshot, snapshot.probed(now));
+                return snapshot.categories();
+            }
+        }
+
+        // 통계 조회 전에 버전을 읽어야 조회 중 다른 노드에서 바뀐 내용이 다음 확인 때 감지됨
+        CatalogVersion dbVersion = emotionCatalogService.currentVersion();
+
+        List<CategoryWithStats> categories = emotionCategoryRepository.findActiveCategoriesWithStats().stream()
+                .map(row -> CategoryWithStats.builder()
+                        .category((EmotionCategory) row[0])
+                        .emotionCount(row[1] != null ? ((Number) row[1]).longValue() : 0L)
+                        .averagePrice(row[2] != null ? ((Number) row[2]).doubleValue() : 0.0)
+                        .totalPurchases(row[3] != null ? ((Number) row[3]).longValue() : 0L)
+                        .build())
                 .toList();
+
+        // 조회 중 변경이 있었다면 이전 버전으로 저장되어 다음 조회 때 다시 생성됨
+        categoryStatsSnapshot.compareAndSet(snapshot, new CategoryStatsSnapshot(version, dbVersion, now, now, categories));
+        return categories;
+    }
+
+    /**
+     * 감정 상품/카테고리 변경 커밋 후 스냅샷 무효화
+     * 구매 수/평점만 바뀐 경우에는 무효화하지 않고 최대 보관 시간 경과 시 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.counterOnly()) {
+            return;
+        }
+        long version = catalogVersion.incrementAndGet();
+        log.debug("카테고리 통계 스냅샷 무효화: version={}, emotionId={}, categoryId={}",
+                version, event.emotionId(), event.categoryId());
     }
 
     /**
@@ -94,6 +146,7 @@ public class EmotionCategoryService {
                 .build();
 
         category = emotionCategoryRepository.save(category);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofCategory(category.getId()));
         log.info("새 카테고리 생성: id={}, name={}", category.getId(), category.getName());
         
         return category;
@@ -112,6 +165,7 @@ public class EmotionCategoryService {
         if (description != null) category.setDescription(description);
         if (colorCode != null) category.setColorCode(colorCode);
         if (sortOrder != null) category.setSortOrder(sortOrder);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofCategory(categoryId));
 
         log.info("카테고리 수정: id={}, name={}", category.getId(), category.getName());
         
@@ -127,9 +181,21 @@ public class EmotionCategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다"));
 
         category.setIsActive(!category.getIsActive());
+        eventPublisher.publishEvent(CatalogChangedEvent.ofCategory(categoryId));
         log.info("카테고리 상태 변경: id={}, isActive={}", category.getId(), category.getIsActive());
     }
 
+    /**
+     * 카테고리 통계 스냅샷 (생성 시점의 노드 내 변경 버전, DB 카탈로그 버전과 함께 보관)
+     */
+    private record CategoryStatsSnapshot(long version, CatalogVersion catalogVersion, long builtAt, long probedAt,
+                                         List<CategoryWithStats> categories) {
+
+        CategoryStatsSnapshot probed(long now) {
+            return new CategoryStatsSnapshot(version, catalogVersion, builtAt, now, categories);
+        }
+    }
+
     /**
      * 카테고리 통계 DTO
      */
@@ -0,0 +1,99 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.dto.response.purchase.ContentResponse;
+import com.app.emotion_market.event.CatalogChangedEvent;
+import com.app.emotion_market.repository.SystemEmotionRepository;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 감정 상품 콘텐츠 파싱 결과 캐시
+ * (감정 ID, 콘텐츠 버전) 단위로 파싱한 ContentsData를 LRU로 보관하며,
+ * 콘텐츠가 수정되면 버전이 바뀌므로 이전 항목은 조회되지 않고 변경 이벤트 시 제거
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class EmotionContentService {
+
+    private final SystemEmotionRepository systemEmotionRepository;
+    private final ObjectMapper contentsMapper;
+    private final Map<ContentKey, ContentResponse.ContentsData> cache;
+
+    public EmotionContentService(SystemEmotionRepository systemEmotionRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.contents.cache.max-size:500}") int maxSize) {
+        this.systemEmotionRepository = systemEmotionRepository;
+        // 응답 DTO에 setter가 없으므로 필드에 직접 바인딩
+        this.contentsMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ContentKey, ContentResponse.ContentsData> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 콘텐츠 조회 (캐시에 없을 때만 contents 컬럼을 읽어 파싱)
+     */
+    public ContentResponse.ContentsData getContents(Long emotionId, Integer contentsVersion) {
+        ContentKey key = new ContentKey(emotionId, contentsVersion != null ? contentsVersion : 0);
+
+        synchronized (cache) {
+            ContentResponse.ContentsData cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String json = systemEmotionRepository.findContentsById(emotionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 감정 상품입니다"));
+        ContentResponse.ContentsData contents = parse(emotionId, json);
+
+        synchronized (cache) {
+            cache.put(key, contents);
+        }
+        return contents;
+    }
+
+    /**
+     * 감정 상품 변경 커밋 후 해당 감정의 캐시 항목 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.counterOnly() || event.emotionId() == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.emotionId().equals(event.emotionId()));
+        }
+    }
+
+    private ContentResponse.ContentsData parse(Long emotionId, String json) {
+        try {
+            return contentsMapper.readValue(json, ContentResponse.ContentsData.class);
+        } catch (JsonProcessingException e) {
+            log.warn("감정 콘텐츠 파싱 실패: emotionId={}, reason={}", emotionId, e.getOriginalMessage());
+            throw new IllegalStateException("콘텐츠를 불러올 수 없습니다");
+        }
+    }
+
+    private record ContentKey(Long emotionId, int version) {
+    }
+}
@@ -1,15 +1,16 @@
 package com.app.emotion_market.service;
 
 import com.app.emotion_market.entity.*;
-import com.app.emotion_market.enumType.EmotionType;
-import com.app.emotion_market.enumType.LocationType;
-import com.app.emotion_market.enumType.ReviewStatus;
+import com.app.emotion_market.enums.EmotionType;
+import com.app.emotion_market.enums.LocationType;
+import com.app.emotion_market.enums.ReviewStatus;
 import com.app.emotion_market.repository.UserEmotionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -24,6 +25,7 @@ public class EmotionSellService {
     private final UserEmotionRepository userEmotionRepository;
     private final UserService userService;
     private final PointTransactionService pointTransactionService;
+    private final PointMutationRetryTemplate pointMutationRetryTemplate;
 
     private static final int DAILY_SALE_LIMIT = 5;
     private static final int BASE_POINTS = 20;
@@ -186,17 +188,21 @@ public class EmotionSellService {
         log.info("감정 승인: emotionId={}, reviewedBy={}", emotionId, reviewedBy);
     }
 
-    @Transactional
+    // 포인트 회수 원장 기록이 순번 충돌하면 트랜잭션 전체를 재시도하므로 트랜잭션은 재시도 템플릿에서 시작
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void rejectEmotion(Long emotionId, String reviewedBy, String reason) {
-        UserEmotion emotion = userEmotionRepository.findById(emotionId)
-                .orElseThrow(() -> new IllegalArgumentException("감정을 찾을 수 없습니다"));
-        
-        emotion.reject(reviewedBy, reason);
-        
-        // 지급된 포인트 회수
-        userService.subtractPoints(emotion.getUser().getId(), emotion.getPointsEarned());
-        pointTransactionService.recordEmotionRefund(emotion.getUser(), emotion);
-        
+        pointMutationRetryTemplate.execute("emotion-reject", () -> {
+            UserEmotion emotion = userEmotionRepository.findById(emotionId)
+                    .orElseThrow(() -> new IllegalArgumentException("감정을 찾을 수 없습니다"));
+
+            emotion.reject(reviewedBy, reason);
+
+            // 지급된 포인트 회수
+            userService.subtractPoints(emotion.getUser().getId(), emotion.getPointsEarned());
+            pointTransactionService.recordEmotionRefund(emotion.getUser(), emotion);
+            return null;
+        });
+
         log.info("감정 거부: emotionId={}, reviewedBy={}, reason={}", emotionId, reviewedBy, reason);
     }
 
@@ -0,0 +1,340 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.dto.response.common.ApiResponse;
+import com.app.emotion_market.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 요청 중복 처리 방지
+ * 처리 결과를 메모리 LRU와 idempotency_records 테이블에 저장해 같은 키로 재시도하면 서비스를 다시 실행하지 않고 저장된 응답을 반환하며,
+ * 같은 키로 동시에 들어온 요청은 먼저 들어온 요청 하나만 실행하고 나머지는 그 결과를 함께 받음
+ * 서버 오류(5xx)로 끝난 요청은 저장하지 않아 재시도 시 다시 실행됨
+ * 처리 중 선점은 processing-lease-seconds 동안만 유효해, 처리 도중 서버가 죽으면 그 이후의 재시도가 선점을 넘겨받음
+ * 업무 트랜잭션은 claimInCurrentTransaction으로 같은 트랜잭션에서 선점에 반영 표시를 남기므로,
+ * 업무 쓰기가 커밋된 뒤 응답 저장 전에 서버가 죽거나 선점 기한이 지나도 재시도가 다시 실행되지 않고,
+ * 선점을 이미 넘겨받힌 요청의 업무 쓰기는 롤백됨
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper responseMapper;
+    private final Map<RecordKey, StoredResponse> completed;
+    private final ConcurrentHashMap<RecordKey, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 현재 스레드가 실행 중인 선점 (업무 트랜잭션에서 반영 표시할 대상)
+    private final ThreadLocal<Reservation> current = new ThreadLocal<>();
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    // 요청 처리 최대 시간보다 길어야 함 (짧으면 처리 중인 요청의 선점을 재시도가 넘겨받아 먼저 실행한 요청이 롤백됨)
+    @Value("${app.idempotency.processing-lease-seconds:30}")
+    private long processingLeaseSeconds;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.cache.max-size:10000}") int maxSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        // 응답 DTO에 setter가 없으므로 필드에 직접 바인딩
+        this.responseMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RecordKey, StoredResponse> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 멱등 키 단위로 요청 실행 (키가 없으면 그대로 실행)
+     *
+     * @param endpoint 키의 적용 범위가 되는 API 식별자
+     * @param request  같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 본문
+     * @param dataType 저장된 응답을 복원할 때 사용할 응답 데이터 타입
+     */
+    public <T> ResponseEntity<ApiResponse<T>> execute(Long userId, String endpoint, String idempotencyKey,
+                                                      Object request, Class<T> dataType,
+                                                      Supplier<ResponseEntity<ApiResponse<T>>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(
+                ApiResponse.failure(HEADER + "는 1~" + MAX_KEY_LENGTH + "자여야 합니다"));
+        }
+
+        RecordKey key = new RecordKey(userId, endpoint, idempotencyKey);
+        String requestHash = hash(request);
+
+        StoredResponse cached = findCompleted(key);
+        if (cached != null) {
+            return replay(key, cached, requestHash, dataType);
+        }
+
+        CompletableFuture<StoredResponse> own = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            return awaitRunning(key, running, requestHash, dataType);
+        }
+
+        try {
+            return executeOnce(key, requestHash, dataType, action, own);
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * 현재 스레드가 처리 중인 멱등 선점에 업무 쓰기 반영 표시 (업무 쓰기와 같은 트랜잭션에서 호출)
+     * 멱등 키 없이 실행 중이면 아무것도 하지 않음
+     *
+     * @throws IllegalStateException 선점 기한이 지나 다른 요청이 넘겨받은 경우 (업무 쓰기를 롤백해야 함)
+     */
+    public void claimInCurrentTransaction() {
+        Reservation reservation = current.get();
+        if (reservation == null) {
+            return;
+        }
+
+        RecordKey key = reservation.key();
+        int claimed = idempotencyRecordRepository.claim(
+                key.userId(), key.endpoint(), key.idempotencyKey(), reservation.reservedAt());
+        if (claimed == 0) {
+            log.warn("멱등 선점을 다른 요청이 넘겨받아 처리 중단: key={}", key);
+            throw new IllegalStateException("같은 요청이 다른 곳에서 처리되고 있습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    /**
+     * 만료된 멱등 기록 삭제
+     */
+    @Scheduled(cron = "${app.idempotency.cleanup-cron:0 0 * * * *}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("만료된 멱등 기록 삭제: {}건", deleted);
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> executeOnce(RecordKey key, String requestHash, Class<T> dataType,
+                                                           Supplier<ResponseEntity<ApiResponse<T>>> action,
+                                                           CompletableFuture<StoredResponse> own) {
+        // 직전 실행이 inFlight에서 빠지기 전에 메모리 조회를 지나친 경우
+        StoredResponse cached = findCompleted(key);
+        if (cached != null) {
+            own.complete(cached);
+            return replay(key, cached, requestHash, dataType);
+        }
+
+        // 선점 시각을 소유 확인에 쓰므로 DB 정밀도(마이크로초)에 맞춤
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime expiresAt = now.plusHours(ttlHours);
+        Integer reserved = transactionTemplate.execute(status -> idempotencyRecordRepository.reserve(
+                key.userId(), key.endpoint(), key.idempotencyKey(), requestHash,
+                now, now.plusSeconds(processingLeaseSeconds), expiresAt));
+
+        if (reserved == null || reserved == 0) {
+            // 이미 처리됐거나 다른 서버에서 처리 중인 키
+            StoredResponse stored = loadStored(key).orElse(null);
+            if (stored == null) {
+                own.complete(StoredResponse.processing(requestHash));
+                return processing();
+            }
+            own.complete(stored);
+            if (stored.isCompleted()) {
+                remember(key, stored);
+            }
+            return replay(key, stored, requestHash, dataType);
+        }
+
+        ResponseEntity<ApiResponse<T>> response;
+        current.set(new Reservation(key, now));
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key, now);
+            throw e;
+        } finally {
+            current.remove();
+        }
+
+        StoredResponse result = new StoredResponse(requestHash, response.getStatusCode().value(),
+                serialize(response.getBody()), expiresAt, false);
+
+        if (response.getStatusCode().is5xxServerError()) {
+            release(key, now);
+        } else {
+            Integer stored = transactionTemplate.execute(status -> idempotencyRecordRepository.complete(
+                    key.userId(), key.endpoint(), key.idempotencyKey(), now, result.httpStatus(), result.body()));
+            if (stored != null && stored > 0) {
+                remember(key, result);
+            } else {
+                log.warn("멱등 선점 기한 초과로 결과를 저장하지 못함: key={}", key);
+            }
+        }
+        own.complete(result);
+        return response;
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> awaitRunning(RecordKey key, CompletableFuture<StoredResponse> running,
+                                                            String requestHash, Class<T> dataType) {
+        try {
+            StoredResponse result = running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            return replay(key, result, requestHash, dataType);
+        } catch (TimeoutException e) {
+            return processing();
+        } catch (ExecutionException e) {
+            log.warn("멱등 요청 선행 실행 실패: key={}, reason={}", key, e.getCause().getMessage());
+            return ResponseEntity.internalServerError().body(ApiResponse.failure("요청 처리 중 오류가 발생했습니다"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return processing();
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> replay(RecordKey key, StoredResponse stored,
+                                                      String requestHash, Class<T> dataType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            log.warn("멱등 키 재사용 거부: key={}", key);
+            return ResponseEntity.unprocessableEntity().body(
+                ApiResponse.failure("같은 " + HEADER + "로 다른 요청을 보낼 수 없습니다"));
+        }
+        if (!stored.isCompleted()) {
+            return stored.applied() ? alreadyApplied() : processing();
+        }
+
+        JavaType type = responseMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+        try {
+            ApiResponse<T> body = responseMapper.readValue(stored.body(), type);
+            log.debug("멱등 응답 재사용: key={}, status={}", key, stored.httpStatus());
+            return ResponseEntity.status(stored.httpStatus()).body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 복원할 수 없습니다", e);
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> processing() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+            ApiResponse.failure("같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요"));
+    }
+
+    // 업무 쓰기는 커밋됐지만 응답을 저장하기 전에 중단된 요청
+    private <T> ResponseEntity<ApiResponse<T>> alreadyApplied() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+            ApiResponse.failure("이미 처리된 요청입니다. 처리 결과는 내역에서 확인해주세요"));
+    }
+
+    private StoredResponse findCompleted(RecordKey key) {
+        synchronized (completed) {
+            StoredResponse stored = completed.get(key);
+            if (stored != null && stored.expiresAt().isBefore(LocalDateTime.now())) {
+                completed.remove(key);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private void remember(RecordKey key, StoredResponse stored) {
+        synchronized (completed) {
+            completed.put(key, stored);
+        }
+    }
+
+    private Optional<StoredResponse> loadStored(RecordKey key) {
+        return idempotencyRecordRepository.findResult(key.userId(), key.endpoint(), key.idempotencyKey())
+                .map(row -> new StoredResponse(
+                        (String) row[0],
+                        row[1] != null ? ((Number) row[1]).intValue() : null,
+                        (String) row[2],
+                        (LocalDateTime) row[3],
+                        Boolean.TRUE.equals(row[4])));
+    }
+
+    private void release(RecordKey key, LocalDateTime reservedAt) {
+        transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.release(
+                key.userId(), key.endpoint(), key.idempotencyKey(), reservedAt));
+    }
+
+    private String serialize(Object body) {
+        try {
+            return responseMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(serialize(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record RecordKey(Long userId, String endpoint, String idempotencyKey) {
+    }
+
+    private record Reservation(RecordKey key, LocalDateTime reservedAt) {
+    }
+
+    private record StoredResponse(String requestHash, Integer httpStatus, String body, LocalDateTime expiresAt,
+                                  boolean applied) {
+
+        static StoredResponse processing(String requestHash) {
+            return new StoredResponse(requestHash, null, null, LocalDateTime.MAX, false);
+        }
+
+        boolean isCompleted() {
+            return httpStatus != null;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.repository.PointTransactionRepository;
+import com.app.emotion_market.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자 포인트 잔액 메모리 캐시
+ * 커밋된 거래의 balanceAfter만 반영하며, 같은 사용자의 갱신은 거래 ID(version) 순서로 CAS 적용
+ * DB 적재는 조회 전에 본 항목을 CAS로 교체하므로, 조회 도중 반영/무효화가 있었다면 조회 값은 캐시에 남지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointBalanceService {
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final UserRepository userRepository;
+
+    private final ConcurrentHashMap<Long, AtomicReference<BalanceEntry>> balances = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    @Value("${app.points.balance-cache.max-size:100000}")
+    private int maxSize;
+
+    @Value("${app.points.balance-cache.expire-after-seconds:300}")
+    private long expireAfterSeconds;
+
+    @Value("${app.points.balance-cache.warm-up-days:7}")
+    private int warmUpDays;
+
+    @Value("${app.points.ledger.enabled:false}")
+    private boolean ledgerEnabled;
+
+    /**
+     * 잔액 조회 (캐시 적중 시 DB 조회 없음)
+     */
+    public Integer getBalance(Long userId) {
+        AtomicReference<BalanceEntry> ref = balances.get(userId);
+        if (ref != null) {
+            BalanceEntry entry = ref.get();
+            if (!entry.isExpired(expireAfterSeconds)) {
+                return entry.balance();
+            }
+        }
+        return load(userId);
+    }
+
+    /**
+     * 거래 기록 후 호출 - 커밋 이후에 캐시에 반영
+     */
+    public void applyAfterCommit(Long userId, Integer balanceAfter, Long version) {
+        runAfterCommit(() -> apply(userId, balanceAfter, version));
+    }
+
+    /**
+     * 거래 기록 없이 잔액이 변경된 경우 호출 - 커밋 이후에 캐시 항목을 만료 상태로 교체
+     * 항목을 제거하지 않고 새 항목으로 바꿔야 커밋 전 값을 읽은 적재 작업의 CAS가 실패함
+     */
+    public void evictAfterCommit(Long userId) {
+        runAfterCommit(() -> invalidate(userId));
+    }
+
+    /**
+     * 애플리케이션 시작 시 최근 거래가 있는 사용자의 잔액 적재
+     * 잔액은 조회 경로와 같은 기준(users.points, 원장 모드에서는 원장 잔액)이고 버전은 최신 거래 ID
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime since = LocalDateTime.now().minusDays(warmUpDays);
+        List<Object[]> rows = ledgerEnabled
+                ? pointTransactionRepository.findRecentLedgerBalancesSince(since)
+                : pointTransactionRepository.findRecentUserBalancesSince(since);
+
+        for (Object[] row : rows) {
+            apply(((Number) row[0]).longValue(), ((Number) row[1]).intValue(), ((Number) row[2]).longValue());
+        }
+        log.info("포인트 잔액 캐시 적재 완료: {}명", rows.size());
+    }
+
+    private Integer load(Long userId) {
+        // 조회 전에 항목(없으면 만료된 자리표시 항목)을 먼저 확보
+        AtomicReference<BalanceEntry> ref = reference(userId, BalanceEntry.placeholder());
+        BalanceEntry observed = ref.get();
+        if (!observed.isExpired(expireAfterSeconds)) {
+            return observed.balance();
+        }
+
+        // 원장 모드에서는 users.points가 갱신되지 않으므로 원장 잔액을 사용
+        Integer points = ledgerEnabled
+                ? pointTransactionRepository.findLedgerBalance(userId).intValue()
+                : userRepository.findPointsById(userId)
+                        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        if (ref.compareAndSet(observed, new BalanceEntry(points, observed.version(), System.currentTimeMillis()))) {
+            return points;
+        }
+
+        // 조회 중 커밋된 거래가 반영됐다면 그 값을, 무효화됐다면 캐시하지 않고 조회 값을 반환
+        BalanceEntry current = ref.get();
+        return current.isExpired(expireAfterSeconds) ? points : current.balance();
+    }
+
+    private void invalidate(Long userId) {
+        AtomicReference<BalanceEntry> ref = balances.get(userId);
+        if (ref != null) {
+            ref.updateAndGet(current -> new BalanceEntry(current.balance(), current.version(), 0L));
+        }
+    }
+
+    private void apply(Long userId, Integer balance, Long version) {
+        BalanceEntry next = new BalanceEntry(balance, version, System.currentTimeMillis());
+        AtomicReference<BalanceEntry> ref = reference(userId, next);
+
+        BalanceEntry current;
+        do {
+            current = ref.get();
+            if (current == next || current.version() > version) {
+                return;
+            }
+        } while (!ref.compareAndSet(current, next));
+    }
+
+    private AtomicReference<BalanceEntry> reference(Long userId, BalanceEntry initial) {
+        AtomicReference<BalanceEntry> ref = balances.computeIfAbsent(userId, id -> new AtomicReference<>(initial));
+        if (balances.size() > maxSize) {
+            trim();
+        }
+        return ref;
+    }
+
+    /**
+     * 최대 크기를 넘으면 마지막 적재/반영 시각이 가장 오래된 항목부터 약 10%를 제거 (제거된 사용자는 다음 조회 시 다시 적재)
+     * 캐시 적중은 시각을 갱신하지 않으므로 엄밀한 LRU는 아님, 동시에 한 스레드만 정리
+     */
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int toRemove = Math.max(1, balances.size() - maxSize + maxSize / 10);
+            balances.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().get().refreshedAt()))
+                    .limit(toRemove)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(balances::remove);
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record BalanceEntry(int balance, long version, long refreshedAt) {
+
+        // 호출마다 새 객체를 만들어야 사용자별 CAS 기준이 됨
+        static BalanceEntry placeholder() {
+            return new BalanceEntry(0, 0L, 0L);
+        }
+
+        boolean isExpired(long expireAfterSeconds) {
+            return System.currentTimeMillis() - refreshedAt > expireAfterSeconds * 1000;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.common.util.PointCalculator;
+import com.app.emotion_market.dto.request.point.PointGrantRequest;
+import com.app.emotion_market.entity.PointGrantCampaign;
+import com.app.emotion_market.enums.PointGrantStatus;
+import com.app.emotion_market.enums.UserStatus;
+import com.app.emotion_market.repository.PointGrantCampaignRepository;
+import com.app.emotion_market.repository.PointTransactionRepository;
+import com.app.emotion_market.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 일괄 지급
+ * 대상 사용자를 ID 오름차순 청크로 나눠 청크마다 포인트 증가/거래 기록/요약 갱신을 한 문장으로 처리하고
+ * 같은 트랜잭션에서 캠페인 체크포인트를 전진시켜, 중단되면 같은 캠페인 키로 다시 요청해 이어서 지급
+ * 이미 지급된 사용자는 SQL에서 제외되므로 재개나 중복 요청으로 두 번 지급되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointGrantService {
+
+    private final PointGrantCampaignRepository pointGrantCampaignRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final UserRepository userRepository;
+    private final PointBalanceService pointBalanceService;
+    private final PointLedgerService pointLedgerService;
+    private final PointMutationRetryTemplate pointMutationRetryTemplate;
+    private final PointCalculator pointCalculator;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "point-grant"));
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.points.grant.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 캠페인 시작 또는 재개 (지급은 백그라운드에서 진행)
+     *
+     * @return 요청 시점의 캠페인 (진행 상황은 findCampaign으로 조회)
+     */
+    public PointGrantCampaign start(PointGrantRequest request) {
+        int amount = resolveAmount(request);
+        List<Long> targets = request.getUserIds() != null
+                ? request.getUserIds().stream().distinct().sorted().toList()
+                : null;
+        PointGrantCampaign campaign = findOrCreate(request, amount, targets);
+        if (campaign.isCompleted()) {
+            return campaign;
+        }
+
+        if (!running.add(campaign.getCampaignKey())) {
+            throw new IllegalStateException("이미 진행 중인 캠페인입니다");
+        }
+
+        try {
+            executor.execute(() -> run(campaign, targets));
+        } catch (RejectedExecutionException e) {
+            running.remove(campaign.getCampaignKey());
+            throw new IllegalStateException("지급 작업을 시작할 수 없습니다");
+        }
+        log.info("포인트 일괄 지급 시작: campaign={}, amount={}, checkpointUserId={}, targets={}",
+                campaign.getCampaignKey(), amount, campaign.getCheckpointUserId(),
+                targets != null ? targets.size() : "ALL_ACTIVE");
+        return campaign;
+    }
+
+    public Optional<PointGrantCampaign> findCampaign(String campaignKey) {
+        return pointGrantCampaignRepository.findByCampaignKey(campaignKey);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 청크가 끝나면 멈추고, 남은 대상은 재요청 시 체크포인트부터 재개
+        executor.shutdownNow();
+    }
+
+    private void run(PointGrantCampaign campaign, List<Long> targets) {
+        String key = campaign.getCampaignKey();
+        try {
+            long checkpoint = pointGrantCampaignRepository.findById(campaign.getId())
+                    .map(PointGrantCampaign::getCheckpointUserId)
+                    .orElse(0L);
+            long granted = 0;
+
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> chunk = nextChunk(targets, checkpoint);
+                if (chunk.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> pointGrantCampaignRepository.updateStatus(
+                            campaign.getId(), PointGrantStatus.COMPLETED, LocalDateTime.now()));
+                    log.info("포인트 일괄 지급 완료: campaign={}, granted={}", key, granted);
+                    return;
+                }
+
+                long chunkStart = System.nanoTime();
+                long last = chunk.get(chunk.size() - 1);
+                int count = grantChunk(campaign, chunk, last);
+
+                checkpoint = last;
+                granted += count;
+                log.info("포인트 일괄 지급 진행: campaign={}, checkpointUserId={}, chunkGranted={}, granted={}, elapsedMs={}",
+                        key, checkpoint, count, granted, (System.nanoTime() - chunkStart) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.error("포인트 일괄 지급 중단 (같은 캠페인 키로 다시 요청하면 재개): campaign={}", key, e);
+        } finally {
+            running.remove(key);
+        }
+    }
+
+    private int grantChunk(PointGrantCampaign campaign, List<Long> chunk, long last) {
+        boolean ledger = pointLedgerService.isEnabled();
+        return pointMutationRetryTemplate.execute("point-grant", () -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> rows = pointTransactionRepository.grantInBulk(
+                    campaign.getId(), chunk, campaign.getAmount(), campaign.getDescription(), ledger, now);
+
+            // 다른 노드가 같은 구간을 먼저 처리했다면 이 청크는 롤백
+            if (pointGrantCampaignRepository.advance(campaign.getId(), last, rows.size(), now) == 0) {
+                throw new IllegalStateException("다른 작업이 이미 처리한 구간입니다");
+            }
+
+            for (Object[] row : rows) {
+                pointBalanceService.applyAfterCommit(((Number) row[1]).longValue(),
+                        ((Number) row[2]).intValue(), ((Number) row[0]).longValue());
+            }
+            return rows.size();
+        });
+    }
+
+    private List<Long> nextChunk(List<Long> targets, long checkpoint) {
+        if (targets == null) {
+            return userRepository.findIdsAfter(checkpoint, UserStatus.ACTIVE, PageRequest.of(0, chunkSize));
+        }
+        int index = Collections.binarySearch(targets, checkpoint);
+        int from = index >= 0 ? index + 1 : -index - 1;
+        return targets.subList(from, Math.min(from + chunkSize, targets.size()));
+    }
+
+    // 재개 요청의 대상 목록이 처음과 다르면 체크포인트 이전 구간이 누락되거나 다른 사용자에게 지급되므로 거부
+    private PointGrantCampaign findOrCreate(PointGrantRequest request, int amount, List<Long> targets) {
+        boolean allActiveUsers = targets == null;
+        String targetsHash = allActiveUsers ? null : hashTargets(targets);
+        Optional<PointGrantCampaign> existing = pointGrantCampaignRepository.findByCampaignKey(request.getCampaignKey());
+
+        if (existing.isPresent()) {
+            PointGrantCampaign campaign = existing.get();
+            if (campaign.getAmount() != amount || campaign.getAllActiveUsers() != allActiveUsers
+                    || !Objects.equals(campaign.getTargetsHash(), targetsHash)) {
+                throw new IllegalArgumentException("같은 캠페인 키로 다른 지급 조건을 요청할 수 없습니다");
+            }
+            return campaign;
+        }
+
+        return transactionTemplate.execute(status -> pointGrantCampaignRepository.save(PointGrantCampaign.builder()
+                .campaignKey(request.getCampaignKey())
+                .description(request.getDescription())
+                .eventType(request.getEventType())
+                .amount(amount)
+                .allActiveUsers(allActiveUsers)
+                .targetsHash(targetsHash)
+                .build()));
+    }
+
+    private String hashTargets(List<Long> targets) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(targets.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","))
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int resolveAmount(PointGrantRequest request) {
+        int amount;
+        if (request.getEventType() != null) {
+            if (request.getBasePoints() == null) {
+                throw new IllegalArgumentException("이벤트 지급에는 기준 포인트가 필요합니다");
+            }
+            amount = pointCalculator.calculateEventBonus(request.getEventType(), request.getBasePoints());
+        } else {
+            amount = request.getAmount() != null ? request.getAmount() : 0;
+        }
+
+        if (amount <= 0) {
+            throw new IllegalArgumentException("지급 포인트가 0 이하입니다");
+        }
+        return amount;
+    }
+}
@@ -0,0 +1,216 @@
+package com.app.emotion_market.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * 사용자 포인트 거래 내역 전체 내보내기
+ * 엔티티를 만들지 않고 fetch size 단위의 전진 전용 커서로 읽은 행을 곧바로 출력 스트림에 써서
+ * 거래 내역 길이와 무관하게 일정한 메모리로 동작 (PostgreSQL은 트랜잭션 안에서만 커서로 나눠 읽음)
+ */
+@Service
+@Slf4j
+public class PointHistoryExporter {
+
+    private static final String EXPORT_SQL = """
+        SELECT id, amount, transaction_type, description, balance_after, related_type, related_id, created_at
+        FROM point_transactions
+        WHERE user_id = ?
+        ORDER BY created_at DESC, id DESC
+        """;
+
+    private static final String CSV_HEADER =
+            "transactionId,amount,transactionType,description,balanceAfter,relatedType,relatedId,createdAt";
+
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PointHistoryExporter(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                @Value("${app.points.export.fetch-size:500}") int fetchSize) {
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 거래 내역을 최신순으로 출력 (스트림은 닫지 않음)
+     *
+     * @return 출력한 거래 수
+     */
+    public long export(Long userId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long[] count = {0};
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status ->
+                    exportJdbcTemplate.query(EXPORT_SQL, (RowCallbackHandler) rs -> {
+                        rowWriter.write(rs);
+                        count[0]++;
+                    }, userId));
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("포인트 거래 내역 내보내기 완료: userId={}, format={}, rows={}", userId, format, count[0]);
+        return count[0];
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private interface RowWriter {
+
+        void write(ResultSet rs) throws SQLException;
+
+        void finish() throws IOException;
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private boolean written;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("transactionId", rs.getLong("id"));
+                generator.writeNumberField("amount", rs.getInt("amount"));
+                generator.writeStringField("transactionType", rs.getString("transaction_type"));
+                generator.writeStringField("description", rs.getString("description"));
+                generator.writeNumberField("balanceAfter", rs.getInt("balance_after"));
+                generator.writeStringField("relatedType", rs.getString("related_type"));
+                long relatedId = rs.getLong("related_id");
+                if (rs.wasNull()) {
+                    generator.writeNullField("relatedId");
+                } else {
+                    generator.writeNumberField("relatedId", relatedId);
+                }
+                generator.writeStringField("createdAt", formatTimestamp(rs.getTimestamp("created_at")));
+                generator.writeEndObject();
+                written = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (written) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                writer.write(Long.toString(rs.getLong("id")));
+                writer.write(',');
+                writer.write(Integer.toString(rs.getInt("amount")));
+                writer.write(',');
+                writer.write(rs.getString("transaction_type"));
+                writer.write(',');
+                writer.write(escape(rs.getString("description")));
+                writer.write(',');
+                writer.write(Integer.toString(rs.getInt("balance_after")));
+                writer.write(',');
+                writer.write(escape(rs.getString("related_type")));
+                writer.write(',');
+                long relatedId = rs.getLong("related_id");
+                if (!rs.wasNull()) {
+                    writer.write(Long.toString(relatedId));
+                }
+                writer.write(',');
+                writer.write(formatTimestamp(rs.getTimestamp("created_at")));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180 - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static String formatTimestamp(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : "";
+    }
+}
@@ -0,0 +1,188 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.entity.PointTransaction;
+import com.app.emotion_market.enums.TransactionType;
+import com.app.emotion_market.repository.PointBalanceSnapshotRepository;
+import com.app.emotion_market.repository.PointDailyRollupRepository;
+import com.app.emotion_market.repository.PointTransactionRepository;
+import com.app.emotion_market.repository.UserPointSummaryRepository;
+import com.app.emotion_market.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 포인트 원장
+ * 원장 모드(app.points.ledger.enabled)에서는 point_transactions가 잔액의 기준이 되어
+ * 포인트 변경은 사용자별 순번을 이어 붙이는 INSERT 한 번으로 처리하고 users.points는 갱신하지 않음
+ * 잔액은 최신 스냅샷 + 이후 거래 재생으로 계산하며, 스냅샷은 주기적으로 전진시키고 검증 작업이 사용자 구간별로 병렬 재계산해 불일치를 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointLedgerService {
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+    private final UserPointSummaryRepository userPointSummaryRepository;
+    private final PointDailyRollupRepository pointDailyRollupRepository;
+    private final UserRepository userRepository;
+    private final PointBalanceService pointBalanceService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.points.ledger.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.points.ledger.chunk-size:10000}")
+    private int chunkSize;
+
+    @Value("${app.points.ledger.verify-parallelism:4}")
+    private int verifyParallelism;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 거래를 원장에 추가 (entity의 balanceAfter는 무시하고 원장 기준으로 계산)
+     * 잔액이 부족하면 IllegalArgumentException
+     */
+    @Transactional
+    public PointTransaction append(PointTransaction transaction) {
+        Long userId = transaction.getUser().getId();
+        Object[] row = pointTransactionRepository.appendLedgerEntry(
+                        userId,
+                        transaction.getAmount(),
+                        transaction.getTransactionType(),
+                        transaction.getDescription(),
+                        transaction.getRelatedId(),
+                        transaction.getRelatedType(),
+                        LocalDateTime.now())
+                .orElseThrow(() -> new IllegalArgumentException("포인트가 부족합니다"));
+
+        Long transactionId = ((Number) row[0]).longValue();
+        applyAppended(userId, transactionId, transaction.getTransactionType(), transaction.getAmount(),
+                ((Number) row[2]).intValue(), toLocalDateTime(row[3]));
+        return pointTransactionRepository.getReferenceById(transactionId);
+    }
+
+    /**
+     * 원장에 추가된 거래를 요약/일별 집계 테이블과 잔액 캐시에 반영 (구매 SQL처럼 원장 행을 직접 추가한 경우에도 호출)
+     */
+    @Transactional
+    public void applyAppended(Long userId, Long transactionId, TransactionType transactionType,
+                              int amount, int balanceAfter, LocalDateTime createdAt) {
+        userPointSummaryRepository.accumulate(userId, Math.max(amount, 0), Math.max(-amount, 0), createdAt);
+        pointDailyRollupRepository.accumulate(userId, createdAt.toLocalDate(), transactionType.name(),
+                Math.max(amount, 0), Math.max(-amount, 0));
+        pointBalanceService.applyAfterCommit(userId, balanceAfter, transactionId);
+    }
+
+    /**
+     * 원장 기준 잔액 (스냅샷 + 이후 거래 재생)
+     */
+    public int getBalance(Long userId) {
+        return pointTransactionRepository.findLedgerBalance(userId).intValue();
+    }
+
+    /**
+     * 원장 모드 시작 시 원장 거래가 없는 사용자의 현재 포인트를 시작 잔액으로 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOpeningBalances() {
+        if (!enabled) {
+            return;
+        }
+        Integer seeded = transactionTemplate.execute(status ->
+                pointBalanceSnapshotRepository.seedOpeningBalances(LocalDateTime.now()));
+        log.info("포인트 원장 시작 잔액 적재 완료: {}명", seeded);
+    }
+
+    /**
+     * 사용자 ID 구간 단위로 스냅샷 전진 (구간마다 별도 트랜잭션)
+     *
+     * @return 갱신된 스냅샷 수
+     */
+    public int takeSnapshots() {
+        Long maxUserId = userRepository.findMaxId();
+        if (!enabled || maxUserId == null) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int advanced = 0;
+        for (long fromId = 0; fromId < maxUserId; fromId += chunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + chunkSize, maxUserId);
+            Integer count = transactionTemplate.execute(status ->
+                    pointBalanceSnapshotRepository.advanceSnapshots(from, to, now));
+            advanced += count != null ? count : 0;
+        }
+        return advanced;
+    }
+
+    /**
+     * 사용자 ID 구간을 병렬로 재계산해 원장 불일치 사용자 조회
+     */
+    public List<LedgerMismatch> verify() {
+        Long maxUserId = userRepository.findMaxId();
+        if (!enabled || maxUserId == null) {
+            return List.of();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(verifyParallelism);
+        try {
+            List<CompletableFuture<List<Object[]>>> chunks = new ArrayList<>();
+            for (long fromId = 0; fromId < maxUserId; fromId += chunkSize) {
+                long from = fromId;
+                long to = Math.min(fromId + chunkSize, maxUserId);
+                chunks.add(CompletableFuture.supplyAsync(
+                        () -> pointBalanceSnapshotRepository.findMismatches(from, to), executor));
+            }
+
+            List<LedgerMismatch> mismatches = new ArrayList<>();
+            for (CompletableFuture<List<Object[]>> chunk : chunks) {
+                chunk.join().forEach(row -> mismatches.add(LedgerMismatch.from(row)));
+            }
+            return mismatches;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    /**
+     * 원장 불일치 사용자
+     */
+    public record LedgerMismatch(Long userId, long replayedBalance, long recordedBalance,
+                                 long expectedEntries, long entries) {
+
+        static LedgerMismatch from(Object[] row) {
+            return new LedgerMismatch(
+                    ((Number) row[0]).longValue(),
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue(),
+                    ((Number) row[3]).longValue(),
+                    ((Number) row[4]).longValue());
+        }
+    }
+}
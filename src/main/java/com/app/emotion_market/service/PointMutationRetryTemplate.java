@@ -0,0 +1,106 @@
+package com.app.emotion_market.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 변경 재시도 템플릿
+ * User의 버전 충돌(낙관적 락 실패)이나 포인트 원장 순번 충돌 시 트랜잭션 전체를 지수 백오프로 다시 실행하며,
+ * 충돌률은 주기적으로 로그로 남김
+ * 재시도는 트랜잭션 경계 바깥에서만 의미가 있으므로 이미 트랜잭션 안이면 한 번만 실행하고 충돌을 호출자에게 넘김
+ * 멱등 키로 실행 중인 요청이면 포인트 변경과 같은 트랜잭션에서 멱등 선점에 반영 표시를 남김
+ */
+@Service
+@Slf4j
+public class PointMutationRetryTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyService idempotencyService;
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    @Value("${app.points.optimistic-retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.points.optimistic-retry.initial-backoff-ms:10}")
+    private long initialBackoffMs;
+
+    @Value("${app.points.optimistic-retry.max-backoff-ms:200}")
+    private long maxBackoffMs;
+
+    public PointMutationRetryTemplate(TransactionTemplate transactionTemplate, IdempotencyService idempotencyService) {
+        this.transactionTemplate = transactionTemplate;
+        this.idempotencyService = idempotencyService;
+    }
+
+    /**
+     * 새 트랜잭션에서 실행하고 버전 충돌이면 재시도
+     * 최대 시도 횟수를 넘기면 IllegalStateException
+     *
+     * @param operation 로그에 남길 작업 이름
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            idempotencyService.claimInCurrentTransaction();
+            return action.get();
+        }
+
+        executions.incrementAndGet();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    idempotencyService.claimInCurrentTransaction();
+                    return action.get();
+                });
+            } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+                conflicts.incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    exhausted.incrementAndGet();
+                    log.warn("포인트 변경 재시도 한도 초과: operation={}, attempts={}", operation, attempt);
+                    throw new IllegalStateException("요청이 몰려 포인트를 반영하지 못했습니다. 잠시 후 다시 시도해주세요");
+                }
+                log.debug("포인트 변경 버전 충돌, 재시도: operation={}, attempt={}", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 구간별 충돌률 기록 (기록 후 카운터 초기화)
+     */
+    @Scheduled(fixedDelayString = "${app.points.optimistic-retry.report-interval-ms:60000}")
+    public void report() {
+        long executed = executions.getAndSet(0);
+        long conflicted = conflicts.getAndSet(0);
+        long failed = exhausted.getAndSet(0);
+        if (executed == 0) {
+            return;
+        }
+        log.info("포인트 변경 충돌 현황: executions={}, conflicts={}, conflictRate={}, exhausted={}",
+                executed, conflicted, String.format("%.4f", (double) conflicted / executed), failed);
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        // 동시에 충돌한 요청이 같은 시점에 다시 부딪히지 않도록 지터 적용
+        long delay = ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 변경이 중단되었습니다", e);
+        }
+    }
+}
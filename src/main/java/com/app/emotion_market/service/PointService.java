@@ -2,7 +2,6 @@ package com.app.emotion_market.service;
 
 import com.app.emotion_market.entity.PointTransaction;
 import com.app.emotion_market.entity.User;
-import com.app.emotion_market.repository.PointTransactionRepository;
 import com.app.emotion_market.repository.UserRepository;
 import com.app.emotion_market.enums.RelatedType;
 import com.app.emotion_market.enums.TransactionType;
@@ -21,7 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class PointService {
 
     private final UserRepository userRepository;
-    private final PointTransactionRepository pointTransactionRepository;
+    private final PointTransactionService pointTransactionService;
+    private final PointLedgerService pointLedgerService;
 
     /**
      * 포인트 추가
@@ -31,8 +31,10 @@ public class PointService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // 사용자 포인트 증가
-        user.addPoints(amount);
+        // 사용자 포인트 증가 (원장 모드에서는 거래 기록이 잔액을 결정)
+        if (!pointLedgerService.isEnabled()) {
+            user.addPoints(amount);
+        }
         
         // 포인트 거래 내역 생성
         PointTransaction transaction = PointTransaction.builder()
@@ -45,7 +47,7 @@ public class PointService {
                 .balanceAfter(user.getPoints())
                 .build();
 
-        pointTransactionRepository.save(transaction);
+        pointTransactionService.record(transaction);
         log.info("포인트 추가 완료 - User: {}, Amount: {}, Balance: {}", userId, amount, user.getPoints());
     }
 
@@ -57,14 +59,14 @@ public class PointService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // 포인트 부족 체크
-        if (user.getPoints() < amount) {
-            throw new RuntimeException("포인트가 부족합니다.");
+        // 포인트 부족 체크 및 차감 (원장 모드에서는 원장 기록 시 확인)
+        if (!pointLedgerService.isEnabled()) {
+            if (user.getPoints() < amount) {
+                throw new RuntimeException("포인트가 부족합니다.");
+            }
+            user.subtractPoints(amount);
         }
 
-        // 사용자 포인트 차감
-        user.subtractPoints(amount);
-
         // 포인트 거래 내역 생성
         PointTransaction transaction = PointTransaction.builder()
                 .user(user)
@@ -76,7 +78,7 @@ public class PointService {
                 .balanceAfter(user.getPoints())
                 .build();
 
-        pointTransactionRepository.save(transaction);
+        pointTransactionService.record(transaction);
         log.info("포인트 차감 완료 - User: {}, Amount: {}, Balance: {}", userId, amount, user.getPoints());
     }
 }
@@ -1,18 +1,32 @@
 package com.app.emotion_market.service;
 
+import com.app.emotion_market.common.util.PointTransactionCursor;
+import com.app.emotion_market.dto.response.common.CursorPageResponse;
+import com.app.emotion_market.dto.response.point.PointStatisticsResponse;
 import com.app.emotion_market.entity.*;
-import com.app.emotion_market.enumType.RelatedType;
-import com.app.emotion_market.enumType.TransactionType;
+import com.app.emotion_market.enums.RelatedType;
+import com.app.emotion_market.enums.TransactionType;
+import com.app.emotion_market.repository.PointDailyRollupRepository;
 import com.app.emotion_market.repository.PointTransactionRepository;
+import com.app.emotion_market.repository.UserPointSummaryRepository;
+import com.app.emotion_market.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +35,36 @@ import java.util.List;
 public class PointTransactionService {
 
     private final PointTransactionRepository pointTransactionRepository;
+    private final UserRepository userRepository;
+    private final PointBalanceService pointBalanceService;
+    private final UserPointSummaryRepository userPointSummaryRepository;
+    private final PointLedgerService pointLedgerService;
+    private final PointDailyRollupRepository pointDailyRollupRepository;
+
+    /**
+     * 포인트 거래 내역 저장 (모든 거래 기록은 이 메서드를 거침)
+     * 원장 모드에서는 원장에 추가하며 잔액도 원장 기준으로 계산됨
+     */
+    @Transactional
+    public PointTransaction record(PointTransaction transaction) {
+        if (pointLedgerService.isEnabled()) {
+            return pointLedgerService.append(transaction);
+        }
+        PointTransaction saved = pointTransactionRepository.save(transaction);
+        userPointSummaryRepository.accumulate(
+                saved.getUser().getId(),
+                Math.max(saved.getAmount(), 0),
+                Math.max(-saved.getAmount(), 0),
+                saved.getCreatedAt());
+        pointDailyRollupRepository.accumulate(
+                saved.getUser().getId(),
+                saved.getCreatedAt().toLocalDate(),
+                saved.getTransactionType().name(),
+                Math.max(saved.getAmount(), 0),
+                Math.max(-saved.getAmount(), 0));
+        pointBalanceService.applyAfterCommit(saved.getUser().getId(), saved.getBalanceAfter(), saved.getId());
+        return saved;
+    }
 
     @Transactional
     public PointTransaction recordSignupBonus(User user) {
@@ -33,7 +77,7 @@ public class PointTransactionService {
                 user.getPoints()
         );
 
-        PointTransaction saved = pointTransactionRepository.save(transaction);
+        PointTransaction saved = record(transaction);
         log.info("가입 보너스 지급: userId={}, points={}", user.getId(), 100);
         return saved;
     }
@@ -49,7 +93,7 @@ public class PointTransactionService {
                 user.getPoints()
         );
 
-        PointTransaction saved = pointTransactionRepository.save(transaction);
+        PointTransaction saved = record(transaction);
         log.info("감정 판매 포인트 지급: userId={}, emotionId={}, points={}", 
                 user.getId(), emotion.getId(), emotion.getPointsEarned());
         return saved;
@@ -66,12 +110,33 @@ public class PointTransactionService {
                 user.getPoints()
         );
 
-        PointTransaction saved = pointTransactionRepository.save(transaction);
+        PointTransaction saved = record(transaction);
         log.info("감정 구매 포인트 차감: userId={}, purchaseId={}, points={}", 
                 user.getId(), purchase.getId(), purchase.getPointsSpent());
         return saved;
     }
 
+    /**
+     * 단일 SQL 구매 처리 후 거래 내역 기록 (사용자 엔티티를 조회하지 않음)
+     */
+    @Transactional
+    public PointTransaction recordEmotionPurchase(Long userId, Long purchaseId, String emotionName,
+                                                  Integer pointsSpent, Integer balanceAfter) {
+        PointTransaction transaction = PointTransaction.createSpendTransaction(
+                userRepository.getReferenceById(userId),
+                pointsSpent,
+                String.format("감정 구매 (%s)", emotionName),
+                purchaseId,
+                RelatedType.EMOTION_PURCHASE,
+                balanceAfter
+        );
+
+        PointTransaction saved = record(transaction);
+        log.info("감정 구매 포인트 차감: userId={}, purchaseId={}, points={}", 
+                userId, purchaseId, pointsSpent);
+        return saved;
+    }
+
     @Transactional
     public PointTransaction recordEmotionRefund(User user, UserEmotion emotion) {
         PointTransaction transaction = PointTransaction.createSpendTransaction(
@@ -83,7 +148,7 @@ public class PointTransactionService {
                 user.getPoints()
         );
 
-        PointTransaction saved = pointTransactionRepository.save(transaction);
+        PointTransaction saved = record(transaction);
         log.info("감정 거부 포인트 회수: userId={}, emotionId={}, points={}", 
                 user.getId(), emotion.getId(), emotion.getPointsEarned());
         return saved;
@@ -103,16 +168,12 @@ public class PointTransactionService {
                 .balanceAfter(user.getPoints())
                 .build();
 
-        PointTransaction saved = pointTransactionRepository.save(transaction);
+        PointTransaction saved = record(transaction);
         log.info("관리자 포인트 조정: userId={}, amount={}, reason={}", 
                 user.getId(), amount, reason);
         return saved;
     }
 
-    public List<PointTransaction> getUserTransactionHistory(User user) {
-        return pointTransactionRepository.findByUserOrderByCreatedAtDesc(user);
-    }
-
     public Page<PointTransaction> getUserTransactionsWithFilters(Long userId, TransactionType transactionType,
                                                                 LocalDateTime startDate, LocalDateTime endDate,
                                                                 Pageable pageable) {
@@ -132,26 +193,111 @@ public class PointTransactionService {
         return pointTransactionRepository.findRecentTransactionsByUser(user, startDate);
     }
 
+    // 통계 조회는 모두 일별 집계 테이블 기준 (기간은 날짜 단위로 적용됨)
+
+    /**
+     * 월별 통계 [month, transactionType, earned, spent, transactionCount]
+     */
     public List<Object[]> getMonthlyTransactionStats(Long userId, int months) {
-        return pointTransactionRepository.getMonthlyTransactionStats(userId, months);
+        return pointDailyRollupRepository.findMonthlyStats(userId, LocalDate.now().minusMonths(months));
     }
 
+    /**
+     * 일별 통계 [statDate, transactionType, earned, spent, transactionCount]
+     */
     public List<Object[]> getDailyTransactionStats(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.getDailyTransactionStats(userId, startDate, endDate);
+        return pointDailyRollupRepository.findDailyStats(userId, startDate.toLocalDate(), endDate.toLocalDate());
     }
 
     public Integer getUserEarningsInPeriod(User user, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.sumAmountByUserInPeriod(user, startDate, endDate);
+        PeriodStatistics statistics = getPeriodStatistics(user.getId(), startDate.toLocalDate(), endDate.toLocalDate());
+        return statistics.totalEarned() - statistics.totalSpent();
     }
 
     // 통계 메서드들
     public Long countTransactionsByTypeToday(TransactionType type) {
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        return pointTransactionRepository.countByTypeAfterDate(type, startOfDay);
+        return pointDailyRollupRepository.countByTypeSince(type, LocalDate.now());
     }
 
     public Integer sumAmountByTypeInPeriod(TransactionType type, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.sumAmountByTypeInPeriod(type, startDate, endDate);
+        return pointDailyRollupRepository.sumNetByTypeInPeriod(type, startDate.toLocalDate(), endDate.toLocalDate())
+                .intValue();
+    }
+
+    /**
+     * 기간 합계와 거래 유형별 획득/사용을 GROUPING SETS 쿼리 한 번으로 조회
+     */
+    public PeriodStatistics getPeriodStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
+        return PeriodStatistics.from(pointDailyRollupRepository.findPeriodStatistics(userId, startDate, endDate));
+    }
+
+    /**
+     * 기간 포인트 통계 (일별 집계 테이블만 조회)
+     */
+    public PointStatisticsResponse getPointStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
+        PeriodStatistics statistics = getPeriodStatistics(userId, startDate, endDate);
+
+        // 같은 날짜의 거래 유형별 행을 하루 요약으로 합침
+        Map<LocalDate, long[]> byDate = new TreeMap<>();
+        for (Object[] row : pointDailyRollupRepository.findDailyStats(userId, startDate, endDate)) {
+            long[] day = byDate.computeIfAbsent((LocalDate) row[0], date -> new long[3]);
+            day[0] += ((Number) row[2]).longValue();
+            day[1] += ((Number) row[3]).longValue();
+            day[2] += ((Number) row[4]).longValue();
+        }
+
+        List<PointStatisticsResponse.DailySummary> dailyStats = new ArrayList<>(byDate.size());
+        byDate.forEach((date, day) -> dailyStats.add(PointStatisticsResponse.DailySummary.builder()
+                .date(date.toString())
+                .earned((int) day[0])
+                .spent((int) day[1])
+                .net((int) (day[0] - day[1]))
+                .transactionCount((int) day[2])
+                .build()));
+
+        return PointStatisticsResponse.builder()
+                .period(startDate + " ~ " + endDate)
+                .totalEarned(statistics.totalEarned())
+                .totalSpent(statistics.totalSpent())
+                .netGain(statistics.totalEarned() - statistics.totalSpent())
+                .transactionCount((int) statistics.transactionCount())
+                .dailyStats(dailyStats)
+                .sourceBreakdown(statistics.earningsByType())
+                .spendingBreakdown(statistics.spendingByType())
+                .build();
+    }
+
+    /**
+     * 사용자 포인트 누적 요약 조회 (거래 이력 길이와 무관하게 PK 조회 1회)
+     */
+    public Optional<UserPointSummary> getPointSummary(Long userId) {
+        return userPointSummaryRepository.findById(userId);
+    }
+
+    /**
+     * 요약 테이블이 비어 있으면 기존 거래 내역으로 초기 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializePointSummaries() {
+        if (userPointSummaryRepository.count() > 0 || pointTransactionRepository.count() == 0) {
+            return;
+        }
+        int rebuilt = userPointSummaryRepository.rebuildFromTransactions();
+        log.info("포인트 요약 초기 적재 완료: {}명", rebuilt);
+    }
+
+    /**
+     * 일별 집계 테이블이 비어 있으면 기존 거래 내역으로 초기 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeDailyRollups() {
+        if (pointDailyRollupRepository.count() > 0 || pointTransactionRepository.count() == 0) {
+            return;
+        }
+        int rebuilt = pointDailyRollupRepository.rebuildFromTransactions();
+        log.info("포인트 일별 집계 초기 적재 완료: {}건", rebuilt);
     }
 
     // PointController에서 필요한 메서드들 추가
@@ -169,27 +315,93 @@ public class PointTransactionService {
         return pointTransactionRepository.findTransactionsWithFilters(userId, null, type, startDate, endDate, pageable);
     }
 
+    /**
+     * 커서 기반 거래 내역 조회 (limit + 1건 조회로 다음 페이지 여부 판단)
+     */
+    public CursorPageResponse<PointTransaction> findUserTransactionsByCursor(Long userId, RelatedType type,
+                                                                            LocalDateTime startDate, LocalDateTime endDate,
+                                                                            String cursor, int size) {
+        PointTransactionCursor after = cursor != null && !cursor.isBlank()
+                ? PointTransactionCursor.decode(cursor)
+                : null;
+
+        List<PointTransaction> rows = pointTransactionRepository.findTransactionsByCursor(
+                userId, type, startDate, endDate,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<PointTransaction> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PointTransaction last = content.get(content.size() - 1);
+            nextCursor = new PointTransactionCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<PointTransaction>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
     public Integer getTotalEarnedPointsByPeriod(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.getTotalEarnedByUserInPeriod(userId, startDate, endDate);
+        return getPeriodStatistics(userId, startDate.toLocalDate(), endDate.toLocalDate()).totalEarned();
     }
 
     public Integer getTotalSpentPointsByPeriod(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.getTotalSpentByUserInPeriod(userId, startDate, endDate);
+        return getPeriodStatistics(userId, startDate.toLocalDate(), endDate.toLocalDate()).totalSpent();
     }
 
     public Long getTransactionCountByPeriod(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.getTransactionCountByUserInPeriod(userId, startDate, endDate);
+        return getPeriodStatistics(userId, startDate.toLocalDate(), endDate.toLocalDate()).transactionCount();
     }
 
     public List<PointTransaction> findRecentTransactions(Long userId, int limit) {
         return pointTransactionRepository.findRecentTransactionsByUserId(userId, limit);
     }
 
-    public java.util.Map<String, Integer> getEarningsByTransactionType(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.getEarningsByTransactionType(userId, startDate, endDate);
+    public Map<String, Integer> getEarningsByTransactionType(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        return getPeriodStatistics(userId, startDate.toLocalDate(), endDate.toLocalDate()).earningsByType();
+    }
+
+    public Map<String, Integer> getSpendingByTransactionType(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        return getPeriodStatistics(userId, startDate.toLocalDate(), endDate.toLocalDate()).spendingByType();
     }
 
-    public java.util.Map<String, Integer> getSpendingByTransactionType(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository.getSpendingByTransactionType(userId, startDate, endDate);
+    /**
+     * 기간 포인트 통계 (유형별 맵에는 금액이 있는 유형만 포함)
+     */
+    public record PeriodStatistics(int totalEarned, int totalSpent, long transactionCount,
+                                   Map<String, Integer> earningsByType, Map<String, Integer> spendingByType) {
+
+        static final PeriodStatistics EMPTY = new PeriodStatistics(0, 0, 0L, Map.of(), Map.of());
+
+        // rows: [transactionType, earned, spent, transactionCount], transactionType이 NULL인 행이 기간 합계
+        static PeriodStatistics from(List<Object[]> rows) {
+            PeriodStatistics statistics = EMPTY;
+            Map<String, Integer> earnings = new HashMap<>();
+            Map<String, Integer> spending = new HashMap<>();
+            for (Object[] row : rows) {
+                int earned = ((Number) row[1]).intValue();
+                int spent = ((Number) row[2]).intValue();
+                if (row[0] == null) {
+                    statistics = new PeriodStatistics(earned, spent, ((Number) row[3]).longValue(), earnings, spending);
+                    continue;
+                }
+
+                String type = TransactionType.valueOf((String) row[0]).name();
+                if (earned > 0) {
+                    earnings.put(type, earned);
+                }
+                if (spent > 0) {
+                    spending.put(type, spent);
+                }
+            }
+            return statistics;
+        }
     }
 }
@@ -0,0 +1,186 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.common.util.HierarchicalTimingWheel;
+import com.app.emotion_market.enums.PurchaseStatus;
+import com.app.emotion_market.event.EmotionPurchasedEvent;
+import com.app.emotion_market.event.PurchaseExpiryEvent;
+import com.app.emotion_market.repository.PurchaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구매 만료 알림 스케줄러
+ * 활성 구매의 만료 임박/만료 시각을 타이밍 휠에 등록해 두고, 1초마다 휠을 진행하며 만기가 된 이벤트만 발행
+ * 시작 시 구간 내 구매를 적재하고 이후 이 노드의 신규 구매는 커밋 후 등록하며,
+ * 다른 노드의 구매와 새로 구간에 들어온 구매는 긴 주기의 구간 재적재로 등록
+ * 휠은 노드별이므로 발행 직전에 purchases 행의 알림 단계를 선점해 환불/연장된 구매와 노드 간 중복 발송을 거름
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PurchaseExpiryNotifier {
+
+    private static final long TICK_MS = 1000L;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4; // 64^4초 ≈ 194일
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final long CLAIM_RETRY_MS = 30_000L;
+    private static final Set<PurchaseStatus> NOTICE_STATUSES = EnumSet.of(PurchaseStatus.ACTIVE);
+    private static final Set<PurchaseStatus> EXPIRED_STATUSES = EnumSet.of(PurchaseStatus.ACTIVE, PurchaseStatus.EXPIRED);
+
+    private final PurchaseRepository purchaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final HierarchicalTimingWheel<PurchaseExpiryEvent> wheel =
+            new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+    // 휠에 등록한 구매 (재적재 시 중복 등록 방지, 만료 알림 처리 후 제거)
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+
+    @Value("${app.purchase.expiry-notice.lead-hours:24}")
+    private int leadHours;
+
+    @Value("${app.purchase.expiry-notice.window-days:8}")
+    private int windowDays;
+
+    /**
+     * 애플리케이션 시작 시 구간 내 활성 구매 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int loaded = load();
+        log.info("구매 만료 알림 적재 완료: 구매 {}건, 예약 {}건", loaded, wheel.size());
+    }
+
+    /**
+     * 다른 노드에서 생긴 구매와 시간이 지나 구간에 새로 들어온 구매 등록 (이미 등록한 구매는 건너뜀)
+     */
+    @Scheduled(initialDelayString = "${app.purchase.expiry-notice.reload-interval-ms:600000}",
+            fixedDelayString = "${app.purchase.expiry-notice.reload-interval-ms:600000}")
+    public void reload() {
+        int loaded = load();
+        log.debug("구매 만료 알림 재적재: 구매 {}건, 예약 {}건", loaded, wheel.size());
+    }
+
+    /**
+     * 구간 내 활성 구매를 ID 순으로 나눠 적재
+     */
+    private int load() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusDays(windowDays);
+
+        long afterId = 0L;
+        int loaded = 0;
+        List<Object[]> rows;
+        do {
+            rows = purchaseRepository.findActiveExpiries(now, until, afterId, LOAD_BATCH_SIZE);
+            for (Object[] row : rows) {
+                afterId = ((Number) row[0]).longValue();
+                schedule(afterId, ((Number) row[1]).longValue(), ((Number) row[2]).longValue(), (LocalDateTime) row[3]);
+            }
+            loaded += rows.size();
+        } while (rows.size() == LOAD_BATCH_SIZE);
+        return loaded;
+    }
+
+    /**
+     * 신규 구매 커밋 후 만료 알림 등록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmotionPurchased(EmotionPurchasedEvent event) {
+        if (event.expiresAt() != null) {
+            schedule(event.purchaseId(), event.userId(), event.emotionId(), event.expiresAt());
+        }
+    }
+
+    @Scheduled(fixedRate = TICK_MS)
+    public void tick() {
+        List<PurchaseExpiryEvent> due = wheel.advanceTo(System.currentTimeMillis());
+        for (PurchaseExpiryEvent event : due) {
+            Boolean claimed;
+            try {
+                claimed = claim(event);
+            } catch (RuntimeException e) {
+                log.warn("구매 만료 알림 선점 실패, 재시도 예약: purchaseId={}, kind={}", event.purchaseId(), event.kind(), e);
+                scheduleOrWarn(System.currentTimeMillis() + CLAIM_RETRY_MS, event);
+                continue;
+            }
+
+            if (event.kind() == PurchaseExpiryEvent.Kind.EXPIRED) {
+                scheduled.remove(event.purchaseId(), event.expiresAt());
+            }
+            if (!Boolean.TRUE.equals(claimed)) {
+                // 환불/연장되었거나 다른 노드가 이미 발송한 알림
+                log.debug("구매 만료 알림 생략: purchaseId={}, kind={}", event.purchaseId(), event.kind());
+                continue;
+            }
+            log.debug("구매 만료 알림: purchaseId={}, kind={}", event.purchaseId(), event.kind());
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * 발행 직전 구매 상태와 만료 시각을 다시 확인하며 알림 단계 선점
+     */
+    private Boolean claim(PurchaseExpiryEvent event) {
+        boolean expired = event.kind() == PurchaseExpiryEvent.Kind.EXPIRED;
+        // 휠은 틱 단위로 내림하므로 한 틱만큼 여유를 둠
+        LocalDateTime dueBy = LocalDateTime.now()
+                .plusHours(expired ? 0 : leadHours)
+                .plusNanos(TICK_MS * 1_000_000);
+        return transactionTemplate.execute(status -> purchaseRepository.claimExpiryNotice(
+                event.purchaseId(),
+                event.kind().noticeLevel(),
+                expired ? EXPIRED_STATUSES : NOTICE_STATUSES,
+                dueBy) > 0);
+    }
+
+    private void schedule(Long purchaseId, Long userId, Long emotionId, LocalDateTime expiresAt) {
+        if (expiresAt.equals(scheduled.put(purchaseId, expiresAt))) {
+            return; // 이미 등록된 구매
+        }
+
+        long expiresAtMs = toEpochMilli(expiresAt);
+        long soonAtMs = toEpochMilli(expiresAt.minusHours(leadHours));
+
+        // 이미 만료 임박 구간에 들어온 구매는 임박 알림을 보내지 않음
+        if (soonAtMs > System.currentTimeMillis()) {
+            scheduleOrWarn(soonAtMs, new PurchaseExpiryEvent(
+                    purchaseId, userId, emotionId, expiresAt, PurchaseExpiryEvent.Kind.EXPIRING_SOON));
+        }
+        if (!scheduleOrWarn(expiresAtMs, new PurchaseExpiryEvent(
+                purchaseId, userId, emotionId, expiresAt, PurchaseExpiryEvent.Kind.EXPIRED))) {
+            scheduled.remove(purchaseId, expiresAt);
+        }
+    }
+
+    private boolean scheduleOrWarn(long deadlineMs, PurchaseExpiryEvent event) {
+        if (wheel.schedule(deadlineMs, event)) {
+            return true;
+        }
+        log.warn("구매 만료 알림 예약 불가 (휠 범위 초과): purchaseId={}, kind={}, expiresAt={}",
+                event.purchaseId(), event.kind(), event.expiresAt());
+        return false;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
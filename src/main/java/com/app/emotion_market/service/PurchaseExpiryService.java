@@ -0,0 +1,115 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.entity.JobWatermark;
+import com.app.emotion_market.enums.PurchaseStatus;
+import com.app.emotion_market.event.PurchaseExpiryEvent;
+import com.app.emotion_market.repository.JobWatermarkRepository;
+import com.app.emotion_market.repository.PurchaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매 만료 처리
+ * 전체 테이블을 한 번에 UPDATE하지 않고 ID 구간 단위로 나눠 구간마다 별도 트랜잭션으로 처리
+ * 구매 ID 순서와 만료 시각 순서가 같으므로(구매 후 고정 기간) 활성 구매가 남은 구간에서 멈추고,
+ * 그 앞까지를 진행 위치로 저장해 다음 실행은 이미 만료 처리된 구간을 다시 읽지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PurchaseExpiryService {
+
+    private static final String JOB_NAME = "purchase-expiry";
+
+    private final PurchaseRepository purchaseRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.purchase.expiry.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.purchase.expiry.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    /**
+     * 만료된 구매 처리 (여러 노드에서 동시에 실행해도 안전)
+     *
+     * @return 이번 실행에서 만료 처리한 건수
+     */
+    public int expirePurchases() {
+        LocalDateTime now = LocalDateTime.now();
+        Long maxId = purchaseRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        long fromId = jobWatermarkRepository.findById(JOB_NAME)
+                .map(JobWatermark::getLastId)
+                .orElse(0L);
+        int totalExpired = 0;
+        int chunks = 0;
+
+        while (fromId < maxId && chunks < maxChunksPerRun) {
+            long toId = Math.min(fromId + chunkSize, maxId);
+            long chunkStart = System.nanoTime();
+
+            ChunkResult result = expireChunk(fromId, toId, now);
+
+            chunks++;
+            totalExpired += result.expired();
+            log.info("구매 만료 처리 구간: ids=({}, {}], expired={}, elapsedMs={}, watermark={}",
+                    fromId, toId, result.expired(), (System.nanoTime() - chunkStart) / 1_000_000, result.watermark());
+
+            if (result.watermark() < toId) {
+                break; // 아직 만료되지 않았거나 다른 노드가 처리 중인 구매가 남은 구간
+            }
+            fromId = toId;
+        }
+
+        if (chunks > 0) {
+            log.info("구매 만료 처리 완료: chunks={}, expired={}", chunks, totalExpired);
+        }
+        return totalExpired;
+    }
+
+    /**
+     * 만료 알림 처리
+     * 만료 시각이 된 구매는 주기 만료 처리를 기다리지 않고 바로 EXPIRED로 변경하고,
+     * 만료 임박 알림은 알림 채널이 연동되기 전까지 로그로 남김
+     */
+    @EventListener
+    public void onPurchaseExpiry(PurchaseExpiryEvent event) {
+        if (event.kind() == PurchaseExpiryEvent.Kind.EXPIRING_SOON) {
+            log.info("구매 만료 임박: purchaseId={}, userId={}, emotionId={}, expiresAt={}",
+                    event.purchaseId(), event.userId(), event.emotionId(), event.expiresAt());
+            return;
+        }
+
+        Integer expired = transactionTemplate.execute(status -> purchaseRepository.expirePurchase(
+                event.purchaseId(), PurchaseStatus.ACTIVE, PurchaseStatus.EXPIRED, LocalDateTime.now()));
+        log.info("구매 만료: purchaseId={}, userId={}, emotionId={}, updated={}",
+                event.purchaseId(), event.userId(), event.emotionId(), expired);
+    }
+
+    private ChunkResult expireChunk(long fromId, long toId, LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            int expired = purchaseRepository.expireInRange(fromId, toId, now);
+
+            Long remaining = purchaseRepository.findMinActiveIdInRange(fromId, toId);
+            long watermark = remaining != null ? remaining - 1 : toId;
+            if (watermark > fromId) {
+                jobWatermarkRepository.advance(JOB_NAME, watermark, now);
+            }
+            return new ChunkResult(expired, watermark);
+        });
+    }
+
+    private record ChunkResult(int expired, long watermark) {
+    }
+}
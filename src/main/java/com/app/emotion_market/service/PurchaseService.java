@@ -1,18 +1,28 @@
 package com.app.emotion_market.service;
 
 import com.app.emotion_market.entity.Purchase;
-import com.app.emotion_market.entity.SystemEmotion;
-import com.app.emotion_market.entity.User;
+import com.app.emotion_market.enums.EmotionType;
+import com.app.emotion_market.enums.PurchaseOutcome;
+import com.app.emotion_market.enums.PurchaseStatus;
+import com.app.emotion_market.enums.TransactionType;
+import com.app.emotion_market.event.CatalogChangedEvent;
+import com.app.emotion_market.event.EmotionPurchasedEvent;
 import com.app.emotion_market.repository.PurchaseRepository;
 import com.app.emotion_market.repository.SystemEmotionRepository;
 import com.app.emotion_market.repository.UserRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -26,69 +36,100 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class PurchaseService {
 
+    private static final int DUPLICATE_PURCHASE_DAYS = 7;
+    private static final int PURCHASE_VALID_DAYS = 7;
+
     private final PurchaseRepository purchaseRepository;
     private final UserRepository userRepository;
     private final SystemEmotionRepository systemEmotionRepository;
-    private final PointService pointService;
-    private final SystemEmotionService systemEmotionService;
+    private final PointTransactionService pointTransactionService;
+    private final PointLedgerService pointLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentAccessTracker contentAccessTracker;
+    private final PurchaseExpiryService purchaseExpiryService;
+    private final DuplicatePurchaseFilter duplicatePurchaseFilter;
 
     /**
      * 감정 구매 처리
+     * 포인트 차감, 중복 구매 검사, 구매 기록 생성, 구매 수 증가를 단일 SQL 문으로 처리하고
+     * 같은 트랜잭션에서 포인트 거래 내역을 기록
      */
     @Transactional
-    public Purchase purchaseEmotion(Long userId, Long emotionId, String purchaseMessage) {
+    public PurchaseResult purchaseEmotion(Long userId, Long emotionId, String purchaseMessage) {
         log.info("감정 구매 시작: userId={}, emotionId={}", userId, emotionId);
 
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
+        LocalDateTime now = LocalDateTime.now();
+
+        // 필터에 없었으면 7일 내 구매가 없음이 확실하므로 DB 중복 검사 생략 (확인과 기록은 원자적으로 처리)
+        boolean mightBeDuplicate = duplicatePurchaseFilter.put(userId, emotionId, now);
 
-        // 2. 감정 상품 조회
-        SystemEmotion emotion = systemEmotionRepository.findByIdAndIsActiveTrue(emotionId)
-                .orElseThrow(() -> new IllegalArgumentException("구매할 수 없는 감정 상품입니다"));
+        boolean ledger = pointLedgerService.isEnabled();
+        Optional<Object[]> row = ledger
+                ? purchaseRepository.purchaseWithLedger(
+                        userId, emotionId, purchaseMessage, mightBeDuplicate,
+                        now.minusDays(DUPLICATE_PURCHASE_DAYS), now, now.plusDays(PURCHASE_VALID_DAYS))
+                : purchaseRepository.purchaseAtomically(
+                        userId, emotionId, purchaseMessage, mightBeDuplicate,
+                        now.minusDays(DUPLICATE_PURCHASE_DAYS), now, now.plusDays(PURCHASE_VALID_DAYS));
 
-        // 3. 중복 구매 체크 (7일 내 동일 감정)
-        if (isDuplicatePurchase(userId, emotionId)) {
-            throw new IllegalStateException("이미 구매한 감정입니다. 7일 후 재구매 가능합니다");
+        if (row.isEmpty()) {
+            PurchaseOutcome outcome = resolveFailure(userId, emotionId, mightBeDuplicate);
+            if (outcome != PurchaseOutcome.USER_NOT_FOUND && outcome != PurchaseOutcome.EMOTION_UNAVAILABLE) {
+                duplicatePurchaseFilter.recordCheck(mightBeDuplicate, outcome == PurchaseOutcome.DUPLICATE);
+            }
+            log.info("감정 구매 실패: userId={}, emotionId={}, outcome={}", userId, emotionId, outcome);
+            return PurchaseResult.failure(outcome);
         }
 
-        // 4. 포인트 부족 체크
-        if (user.getPoints() < emotion.getPrice()) {
-            throw new IllegalStateException("포인트가 부족합니다");
+        duplicatePurchaseFilter.recordCheck(mightBeDuplicate, false);
+
+        PurchaseResult result = PurchaseResult.success(emotionId, row.get());
+        // 구매 SQL에서 total_purchases가 증가했으므로 카탈로그 스냅샷 무효화
+        eventPublisher.publishEvent(CatalogChangedEvent.ofPurchase(emotionId));
+        eventPublisher.publishEvent(new EmotionPurchasedEvent(result.getPurchaseId(), userId, emotionId,
+                result.getPurchasedAt(), result.getExpiresAt()));
+
+        if (ledger) {
+            // 차감 원장 거래는 구매 SQL에서 이미 추가됨
+            pointLedgerService.applyAppended(userId, ((Number) row.get()[7]).longValue(), TransactionType.SPENT,
+                    -result.getPointsSpent(), result.getBalanceAfter(), result.getPurchasedAt());
+        } else {
+            pointTransactionService.recordEmotionPurchase(userId, result.getPurchaseId(),
+                    result.getEmotionName(), result.getPointsSpent(), result.getBalanceAfter());
         }
 
-        // 5. 포인트 차감
-        pointService.usePoints(userId, emotion.getPrice(), 
-                "감정 구매: " + emotion.getName(), emotionId, "EMOTION_PURCHASE");
-
-        // 6. 구매 기록 생성
-        Purchase purchase = Purchase.builder()
-                .user(user)
-                .emotion(emotion)
-                .pointsSpent(emotion.getPrice())
-                .purchaseMessage(purchaseMessage)
-                .status("ACTIVE")
-                .expiresAt(LocalDateTime.now().plusDays(7))
-                .build();
+        log.info("감정 구매 완료: purchaseId={}, userId={}, emotionId={}, price={}", 
+                result.getPurchaseId(), userId, emotionId, result.getPointsSpent());
 
-        purchase = purchaseRepository.save(purchase);
+        return result;
+    }
 
-        // 7. 감정 상품 구매 수 증가
-        systemEmotionService.incrementPurchaseCount(emotionId);
+    /**
+     * 구매 실패 원인 판별 (실패한 경우에만 조회)
+     */
+    private PurchaseOutcome resolveFailure(Long userId, Long emotionId, boolean duplicateChecked) {
+        if (!userRepository.existsById(userId)) {
+            return PurchaseOutcome.USER_NOT_FOUND;
+        }
 
-        log.info("감정 구매 완료: purchaseId={}, userId={}, emotionId={}, price={}", 
-                purchase.getId(), userId, emotionId, emotion.getPrice());
+        if (systemEmotionRepository.findByIdAndIsActiveTrue(emotionId).isEmpty()) {
+            return PurchaseOutcome.EMOTION_UNAVAILABLE;
+        }
+
+        if (duplicateChecked && isDuplicatePurchase(userId, emotionId)) {
+            return PurchaseOutcome.DUPLICATE;
+        }
 
-        return purchase;
+        return PurchaseOutcome.INSUFFICIENT_POINTS;
     }
 
     /**
      * 중복 구매 체크 (7일 내 동일 감정)
      */
     private boolean isDuplicatePurchase(Long userId, Long emotionId) {
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
+        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(DUPLICATE_PURCHASE_DAYS);
         return purchaseRepository.existsByUserIdAndEmotionIdAndCreatedAtAfterAndStatus(
-                userId, emotionId, sevenDaysAgo, "ACTIVE");
+                userId, emotionId, sevenDaysAgo, PurchaseStatus.ACTIVE);
     }
 
     /**
@@ -124,77 +165,49 @@ public class PurchaseService {
      * 콘텐츠 접근 가능 여부 체크
      */
     public boolean canAccessContent(Long userId, Long purchaseId) {
-        Optional<Purchase> purchaseOpt = findUserPurchase(userId, purchaseId);
-        
-        if (purchaseOpt.isEmpty()) {
-            return false;
-        }
-
-        Purchase purchase = purchaseOpt.get();
-        return "ACTIVE".equals(purchase.getStatus()) && 
-               purchase.getExpiresAt().isAfter(LocalDateTime.now());
+        return findUserPurchase(userId, purchaseId)
+                .map(purchase -> purchase.getStatus() == PurchaseStatus.ACTIVE
+                        && purchase.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElse(false);
     }
 
     /**
-     * 콘텐츠 접근 기록 업데이트
+     * 콘텐츠 접근 처리
+     * 권한/상태/만료 확인은 조인 조회 한 번으로 처리하고, 접근 기록은 모아서 비동기로 반영
+     * 접근할 수 없는 구매라면 빈 값을 반환
      */
-    @Transactional
-    public void recordContentAccess(Long userId, Long purchaseId) {
-        Purchase purchase = findUserPurchase(userId, purchaseId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구매 내역입니다"));
-
-        if (!canAccessContent(userId, purchaseId)) {
-            throw new IllegalStateException("이용 기간이 만료되었습니다");
-        }
-
-        purchase.setAccessCount(purchase.getAccessCount() + 1);
-        purchase.setLastAccessedAt(LocalDateTime.now());
-
-        log.info("콘텐츠 접근 기록: purchaseId={}, accessCount={}", 
-                purchaseId, purchase.getAccessCount());
+    public Optional<ContentAccess> accessContent(Long userId, Long purchaseId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return purchaseRepository.findAccessibleContent(userId, purchaseId, now)
+                .map(row -> {
+                    int pendingCount = contentAccessTracker.record(purchaseId, now);
+                    return ContentAccess.from(row, pendingCount);
+                });
     }
 
     /**
-     * 구매 리뷰 작성
+     * 구매 리뷰 작성 (수정 포함)
+     * 감정 상품 평점은 전체 재계산 없이 합계/개수를 증분 갱신
      */
     @Transactional
     public void writeReview(Long userId, Long purchaseId, Integer rating, String reviewComment) {
-        Purchase purchase = findUserPurchase(userId, purchaseId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구매 내역입니다"));
-
-        if (rating < 1 || rating > 5) {
+        if (rating == null || rating < 1 || rating > 5) {
             throw new IllegalArgumentException("평점은 1-5점 사이여야 합니다");
         }
 
-        purchase.setRating(rating);
-        purchase.setReviewComment(reviewComment);
-
-        // 감정 상품의 평균 평점 재계산 (별도 메서드에서 처리)
-        updateEmotionAverageRating(purchase.getEmotion().getId());
-
-        log.info("구매 리뷰 작성: purchaseId={}, rating={}", purchaseId, rating);
-    }
+        Long emotionId = purchaseRepository.applyReview(userId, purchaseId, rating, reviewComment, LocalDateTime.now())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구매 내역입니다"));
 
-    /**
-     * 감정 상품 평균 평점 재계산
-     */
-    @Transactional
-    public void updateEmotionAverageRating(Long emotionId) {
-        Double averageRating = purchaseRepository.getAverageRatingByEmotionId(emotionId);
-        if (averageRating != null) {
-            systemEmotionService.updateAverageRating(emotionId, averageRating);
-        }
+        eventPublisher.publishEvent(CatalogChangedEvent.ofRating(emotionId));
+        log.info("구매 리뷰 작성: purchaseId={}, emotionId={}, rating={}", purchaseId, emotionId, rating);
     }
 
     /**
-     * 만료된 구매 상태 업데이트 (스케줄러에서 호출)
+     * 만료된 구매 상태 업데이트 (ID 구간 단위로 나눠 처리)
      */
-    @Transactional
-    public void updateExpiredPurchases() {
-        int updatedCount = purchaseRepository.updateExpiredPurchases(LocalDateTime.now());
-        if (updatedCount > 0) {
-            log.info("만료된 구매 상태 업데이트: {}건", updatedCount);
-        }
+    public int updateExpiredPurchases() {
+        return purchaseExpiryService.expirePurchases();
     }
 
     /**
@@ -222,6 +235,95 @@ public class PurchaseService {
                 .build();
     }
 
+    /**
+     * 구매 처리 결과 DTO
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class PurchaseResult {
+        private final PurchaseOutcome outcome;
+        private final Long purchaseId;
+        private final Long emotionId;
+        private final String emotionName;
+        private final EmotionType emotionType;
+        private final Integer pointsSpent;
+        private final Integer balanceAfter;
+        private final LocalDateTime purchasedAt;
+        private final LocalDateTime expiresAt;
+
+        public boolean isSuccess() {
+            return outcome == PurchaseOutcome.SUCCESS;
+        }
+
+        public String getMessage() {
+            return outcome.getMessage();
+        }
+
+        static PurchaseResult failure(PurchaseOutcome outcome) {
+            return PurchaseResult.builder()
+                    .outcome(outcome)
+                    .build();
+        }
+
+        /**
+         * purchaseAtomically 결과 행 변환
+         */
+        static PurchaseResult success(Long emotionId, Object[] row) {
+            return PurchaseResult.builder()
+                    .outcome(PurchaseOutcome.SUCCESS)
+                    .purchaseId(((Number) row[0]).longValue())
+                    .balanceAfter(((Number) row[1]).intValue())
+                    .pointsSpent(((Number) row[2]).intValue())
+                    .emotionName((String) row[3])
+                    .emotionType(EmotionType.valueOf((String) row[4]))
+                    .purchasedAt(toLocalDateTime(row[5]))
+                    .expiresAt(toLocalDateTime(row[6]))
+                    .emotionId(emotionId)
+                    .build();
+        }
+
+        private static LocalDateTime toLocalDateTime(Object value) {
+            if (value instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime();
+            }
+            return (LocalDateTime) value;
+        }
+    }
+
+    /**
+     * 콘텐츠 접근 결과 DTO
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ContentAccess {
+        private final Long purchaseId;
+        private final Long emotionId;
+        private final String emotionName;
+        private final EmotionType emotionType;
+        private final Integer contentsVersion;
+        private final LocalDateTime purchasedAt;
+        private final LocalDateTime expiresAt;
+        private final Integer accessCount;
+
+        /**
+         * findAccessibleContent 결과 행 변환 (미반영 접근 횟수 포함)
+         */
+        static ContentAccess from(Object[] row, int pendingCount) {
+            return ContentAccess.builder()
+                    .purchaseId(((Number) row[0]).longValue())
+                    .emotionId(((Number) row[1]).longValue())
+                    .emotionName((String) row[2])
+                    .emotionType((EmotionType) row[3])
+                    .contentsVersion(((Number) row[4]).intValue())
+                    .purchasedAt(PurchaseResult.toLocalDateTime(row[5]))
+                    .expiresAt(PurchaseResult.toLocalDateTime(row[6]))
+                    .accessCount(((Number) row[7]).intValue() + pendingCount)
+                    .build();
+        }
+    }
+
     /**
      * 구매 통계 DTO
      */
@@ -1,14 +1,22 @@
 package com.app.emotion_market.service;
 
-import com.app.emotion_market.enumType.EmotionType;
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
 import com.app.emotion_market.entity.SystemEmotion;
+import com.app.emotion_market.enums.EmotionType;
+import com.app.emotion_market.event.CatalogChangedEvent;
 import com.app.emotion_market.repository.SystemEmotionRepository;
+import com.app.emotion_market.service.catalog.CatalogItem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +31,8 @@ import java.util.Optional;
 public class SystemEmotionService {
 
     private final SystemEmotionRepository systemEmotionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 활성화된 모든 감정 상품 조회
@@ -79,6 +89,14 @@ public class SystemEmotionService {
         return systemEmotionRepository.findByNameContainingIgnoreCaseAndIsActiveTrueOrderByTotalPurchasesDesc(keyword);
     }
 
+    /**
+     * 상점 검색 (키워드, 카테고리, 감정 유형, 가격, 평점 조건을 하나의 쿼리로 조회)
+     * 카탈로그 검색 색인과 같은 결과와 순서를 돌려주므로 응답 변환도 같은 방식으로 처리
+     */
+    public Page<CatalogItem> searchCatalogItems(ShopSearchCondition condition, Pageable pageable) {
+        return systemEmotionRepository.searchCatalogItems(condition, pageable);
+    }
+
     /**
      * 가격 범위로 필터링
      */
@@ -102,6 +120,7 @@ public class SystemEmotionService {
     @Transactional
     public void incrementPurchaseCount(Long emotionId) {
         systemEmotionRepository.incrementTotalPurchases(emotionId);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofPurchase(emotionId));
         log.info("감정 상품 구매 수 증가: emotionId={}", emotionId);
     }
 
@@ -111,16 +130,47 @@ public class SystemEmotionService {
     @Transactional
     public void updateAverageRating(Long emotionId, Double newRating) {
         systemEmotionRepository.updateAverageRating(emotionId, newRating);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofEmotion(emotionId));
         log.info("감정 상품 평점 업데이트: emotionId={}, newRating={}", emotionId, newRating);
     }
 
     /**
-     * 오늘의 베스트 감정 조회 (최근 24시간 구매 기준)
+     * 평점 합계/개수 정합성 보정 (스케줄러에서 호출)
+     * 감정마다 짧은 트랜잭션에서 행을 잠근 뒤 집계해, 전체를 한 스냅샷으로 집계하는 동안 커밋된 리뷰를 덮어쓰지 않음
      */
-    public List<SystemEmotion> findTodaysBestEmotions(int limit) {
-        // 실제로는 최근 24시간 구매 데이터를 기반으로 계산해야 하지만
-        // MVP에서는 단순히 총 구매수 기준으로 처리
-        return findPopularEmotions(limit);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileRatings() {
+        int corrected = 0;
+        for (Long emotionId : systemEmotionRepository.findAllIds()) {
+            Integer updated = transactionTemplate.execute(status -> {
+                if (systemEmotionRepository.lockForRatingReconcile(emotionId).isEmpty()) {
+                    return 0; // 그 사이 삭제된 감정
+                }
+                return systemEmotionRepository.reconcileRating(emotionId);
+            });
+            corrected += updated != null ? updated : 0;
+        }
+        if (corrected > 0) {
+            log.warn("감정 상품 평점 불일치 보정: {}건", corrected);
+            eventPublisher.publishEvent(new CatalogChangedEvent(null, null, true));
+        }
+        return corrected;
+    }
+
+    /**
+     * 애플리케이션 시작 시 미리보기 컬럼이 비어 있는 감정 상품의 미리보기 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeContentPreviews() {
+        List<SystemEmotion> emotions = systemEmotionRepository.findWithoutContentPreview();
+        if (emotions.isEmpty()) {
+            return;
+        }
+
+        emotions.forEach(SystemEmotion::refreshContentPreview);
+        eventPublisher.publishEvent(new CatalogChangedEvent(null, null, false));
+        log.info("콘텐츠 미리보기 계산 완료: {}건", emotions.size());
     }
 
     /**
@@ -132,9 +182,23 @@ public class SystemEmotionService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 감정 상품입니다"));
         
         emotion.setIsActive(!emotion.getIsActive());
+        eventPublisher.publishEvent(CatalogChangedEvent.ofEmotion(emotionId));
         log.info("감정 상품 상태 변경: emotionId={}, isActive={}", emotionId, emotion.getIsActive());
     }
 
+    /**
+     * 관리자용: 감정 상품 콘텐츠 수정 (콘텐츠 버전 증가)
+     */
+    @Transactional
+    public void updateEmotionContents(Long emotionId, String contents) {
+        SystemEmotion emotion = systemEmotionRepository.findById(emotionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 감정 상품입니다"));
+
+        emotion.updateContents(contents);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofEmotion(emotionId));
+        log.info("감정 상품 콘텐츠 수정: emotionId={}, contentsVersion={}", emotionId, emotion.getContentsVersion());
+    }
+
     /**
      * 관리자용: 감정 상품 가격 수정
      */
@@ -144,6 +208,7 @@ public class SystemEmotionService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 감정 상품입니다"));
         
         emotion.setPrice(newPrice);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofEmotion(emotionId));
         log.info("감정 상품 가격 수정: emotionId={}, newPrice={}", emotionId, newPrice);
     }
 }
@@ -0,0 +1,93 @@
+package com.app.emotion_market.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 단위 직렬 실행기
+ * 사용자 ID로 고른 스트라이프 락을 잡고 실행해 같은 사용자의 포인트 변경 요청은 이 서버 안에서 순서대로 처리하고,
+ * 다른 사용자의 요청은 (스트라이프가 겹치지 않는 한) 병렬로 처리
+ * 락을 트랜잭션 바깥에서 잡아야 앞선 요청의 커밋 결과를 다음 요청이 읽으므로 컨트롤러에서 서비스 호출을 감싸 사용
+ */
+@Service
+@Slf4j
+public class UserLockExecutor {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutMs;
+
+    private final AtomicLong contended = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    public UserLockExecutor(@Value("${app.user-lock.stripes:1024}") int stripeCount,
+                            @Value("${app.user-lock.timeout-ms:5000}") long timeoutMs) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 같은 사용자의 다른 요청이 끝날 때까지 기다린 뒤 실행
+     * 대기 시간이 timeout-ms를 넘으면 IllegalStateException
+     */
+    public <T> T execute(Long userId, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(userId);
+
+        if (!lock.tryLock()) {
+            contended.incrementAndGet();
+            acquire(lock, userId);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 바로 잡지 못하고 대기한 횟수
+     */
+    public long getContendedCount() {
+        return contended.get();
+    }
+
+    /**
+     * 대기 시간 초과로 실패한 횟수
+     */
+    public long getTimedOutCount() {
+        return timedOut.get();
+    }
+
+    private void acquire(ReentrantLock lock, Long userId) {
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            long count = timedOut.incrementAndGet();
+            log.warn("사용자 요청 대기 시간 초과: userId={}, timeoutMs={}, contended={}, timedOut={}",
+                    userId, timeoutMs, contended.get(), count);
+            throw new IllegalStateException("같은 사용자의 다른 요청이 처리 중입니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    private ReentrantLock stripeFor(Long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h ^ (h >>> 32)) & mask];
+    }
+}
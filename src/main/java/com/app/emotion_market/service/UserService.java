@@ -1,7 +1,7 @@
 package com.app.emotion_market.service;
 
 import com.app.emotion_market.entity.User;
-import com.app.emotion_market.enumType.UserStatus;
+import com.app.emotion_market.enums.UserStatus;
 import com.app.emotion_market.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -23,27 +24,34 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final PointTransactionService pointTransactionService;
+    private final PointBalanceService pointBalanceService;
+    private final PointLedgerService pointLedgerService;
+    private final PointMutationRetryTemplate pointMutationRetryTemplate;
 
-    @Transactional
+    // 가입 보너스 원장 기록이 순번 충돌하면 트랜잭션 전체를 재시도하므로 트랜잭션은 재시도 템플릿에서 시작
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createUser(String email, String password, String nickname, 
                           Boolean agreeTerms, Boolean agreePrivacy, Boolean agreeMarketing) {
-        // 중복 체크
-        validateDuplicateUser(email, nickname);
-
-        // 사용자 생성
-        User user = User.builder()
-                .email(email)
-                .password(passwordEncoder.encode(password))
-                .nickname(nickname)
-                .agreeTerms(agreeTerms)
-                .agreePrivacy(agreePrivacy)
-                .agreeMarketing(agreeMarketing != null ? agreeMarketing : false)
-                .build();
-
-        User savedUser = userRepository.save(user);
-
-        // 가입 보너스 포인트 트랜잭션 기록
-        pointTransactionService.recordSignupBonus(savedUser);
+        User savedUser = pointMutationRetryTemplate.execute("user-create", () -> {
+            // 중복 체크
+            validateDuplicateUser(email, nickname);
+
+            // 사용자 생성
+            User user = User.builder()
+                    .email(email)
+                    .password(passwordEncoder.encode(password))
+                    .nickname(nickname)
+                    .agreeTerms(agreeTerms)
+                    .agreePrivacy(agreePrivacy)
+                    .agreeMarketing(agreeMarketing != null ? agreeMarketing : false)
+                    .build();
+
+            User saved = userRepository.save(user);
+
+            // 가입 보너스 포인트 트랜잭션 기록
+            pointTransactionService.recordSignupBonus(saved);
+            return saved;
+        });
 
         log.info("새 사용자 가입: email={}, nickname={}", email, nickname);
         return savedUser;
@@ -61,10 +69,10 @@ public class UserService {
         return userRepository.findByEmailAndStatus(email, UserStatus.ACTIVE);
     }
 
+    // 포인트 외 컬럼은 대상 UPDATE로 갱신 (엔티티 갱신은 동시에 진행된 포인트 변경과 버전 충돌)
     @Transactional
     public void updateLastLogin(Long userId) {
-        userRepository.findById(userId)
-                .ifPresent(User::updateLastLogin);
+        userRepository.updateLastLoginAt(userId, LocalDateTime.now());
     }
 
     @Transactional
@@ -78,35 +86,53 @@ public class UserService {
             }
         }
 
-        user.updateProfile(nickname, profileImage, mbtiType);
-        return user;
+        userRepository.updateProfile(userId,
+                nickname != null ? nickname : user.getNickname(),
+                profileImage != null ? profileImage : user.getProfileImage(),
+                mbtiType != null ? mbtiType : user.getMbtiType(),
+                LocalDateTime.now());
+        return getUserById(userId);
     }
 
+    /**
+     * 포인트 증가 (원장 모드에서는 이어서 기록하는 원장 거래가 잔액을 결정하므로 users.points를 갱신하지 않음)
+     */
     @Transactional
     public void addPoints(Long userId, Integer points) {
+        if (pointLedgerService.isEnabled()) {
+            return;
+        }
         User user = getUserById(userId);
         user.addPoints(points);
+        pointBalanceService.evictAfterCommit(userId);
         log.debug("사용자 {} 포인트 {} 추가, 현재 잔액: {}", userId, points, user.getPoints());
     }
 
+    /**
+     * 포인트 차감 (원장 모드에서는 잔액 확인과 차감을 원장 거래 기록에서 처리)
+     */
     @Transactional
     public void subtractPoints(Long userId, Integer points) {
+        if (pointLedgerService.isEnabled()) {
+            return;
+        }
         User user = getUserById(userId);
         user.subtractPoints(points);
+        pointBalanceService.evictAfterCommit(userId);
         log.debug("사용자 {} 포인트 {} 차감, 현재 잔액: {}", userId, points, user.getPoints());
     }
 
     @Transactional
     public void suspendUser(Long userId, String reason) {
-        User user = getUserById(userId);
-        user.suspend();
+        getUserById(userId);
+        userRepository.updateStatus(userId, UserStatus.SUSPENDED, LocalDateTime.now());
         log.info("사용자 {} 정지, 사유: {}", userId, reason);
     }
 
     @Transactional
     public void activateUser(Long userId) {
-        User user = getUserById(userId);
-        user.activate();
+        getUserById(userId);
+        userRepository.updateStatus(userId, UserStatus.ACTIVE, LocalDateTime.now());
         log.info("사용자 {} 활성화", userId);
     }
 
@@ -0,0 +1,258 @@
+package com.app.emotion_market.service.catalog;
+
+import com.app.emotion_market.event.EmotionPurchasedEvent;
+import com.app.emotion_market.repository.PurchaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근 24시간 구매 순위 (오늘의 베스트)
+ * 감정별로 1시간 단위 슬롯 24개의 링 버퍼에 구매 수를 누적하고,
+ * 순위는 구매가 있거나 시간이 바뀐 뒤 처음 조회할 때만 다시 계산
+ * 카운터는 노드별이므로 다른 노드의 구매는 주기적으로 purchases 기준 새 카운터를 만들어 교체하며 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BestEmotionRankingService {
+
+    private static final int WINDOW_HOURS = 24;
+    private static final int RANKING_SIZE = 50;
+
+    private final PurchaseRepository purchaseRepository;
+    private final EmotionCatalogService emotionCatalogService;
+
+    private volatile ConcurrentHashMap<Long, HourlyCounter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Ranking> ranking = new AtomicReference<>(new Ranking(-1L, -1L, new long[0]));
+
+    // 누적(읽기 잠금)과 카운터 교체(쓰기 잠금) 사이에 들어온 구매가 빠지지 않도록 구분
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<EmotionPurchasedEvent> duringRebuild = new ConcurrentLinkedQueue<>();
+    private boolean rebuilding;
+
+    /**
+     * 오늘의 베스트 감정 조회
+     * 최근 24시간 구매가 있는 감정을 구매 수 순으로 반환하고, 부족하면 전체 인기순으로 채움
+     */
+    public List<CatalogItem> findTodaysBest(int limit) {
+        List<CatalogItem> result = new ArrayList<>(limit);
+        Set<Long> added = new HashSet<>();
+
+        for (long emotionId : currentRanking().emotionIds()) {
+            if (result.size() >= limit) {
+                return result;
+            }
+            // 비활성화된 감정은 카탈로그에 없으므로 제외
+            emotionCatalogService.findById(emotionId).ifPresent(item -> {
+                result.add(item);
+                added.add(item.id());
+            });
+        }
+
+        for (CatalogItem item : emotionCatalogService.findTop(CatalogSort.POPULARITY, limit + added.size())) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (!added.contains(item.id())) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 최근 24시간 구매 수 조회
+     */
+    public long countRecentPurchases(Long emotionId) {
+        HourlyCounter counter = counters.get(emotionId);
+        return counter != null ? counter.sum(toEpochHour(LocalDateTime.now())) : 0L;
+    }
+
+    /**
+     * 구매 커밋 후 해당 시간 슬롯에 누적
+     * 재구성 중이면 새 카운터에도 반영할 수 있도록 따로 보관
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmotionPurchased(EmotionPurchasedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            if (rebuilding) {
+                duringRebuild.add(event);
+            }
+            record(counters, event.emotionId(), toEpochHour(purchasedAt(event)), 1L);
+            version.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+        log.info("최근 24시간 구매 순위 재구성 완료: 감정 {}개", counters.size());
+    }
+
+    /**
+     * purchases.created_at 기준으로 최근 24시간 카운터를 새로 만들어 교체
+     * 다른 노드의 구매와 이 노드에서 놓친 이벤트는 이 주기마다 반영됨
+     */
+    @Scheduled(initialDelayString = "${app.ranking.reseed-interval-ms:300000}",
+            fixedDelayString = "${app.ranking.reseed-interval-ms:300000}")
+    public synchronized void rebuild() {
+        LocalDateTime cutoff;
+        swapLock.writeLock().lock();
+        try {
+            rebuilding = true;
+            duringRebuild.clear();
+            cutoff = LocalDateTime.now();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            // 기준 시각 이전 구매는 DB에서, 이후 구매는 재구성 중 받은 이벤트로 채움
+            LocalDateTime since = cutoff.truncatedTo(ChronoUnit.HOURS).minusHours(WINDOW_HOURS - 1);
+            List<Object[]> rows = purchaseRepository.countHourlyPurchasesByEmotionBetween(since, cutoff);
+
+            ConcurrentHashMap<Long, HourlyCounter> rebuilt = new ConcurrentHashMap<>();
+            for (Object[] row : rows) {
+                LocalDateTime hour = row[1] instanceof Timestamp timestamp
+                        ? timestamp.toLocalDateTime()
+                        : (LocalDateTime) row[1];
+                record(rebuilt, ((Number) row[0]).longValue(), toEpochHour(hour), ((Number) row[2]).longValue());
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                for (EmotionPurchasedEvent event : duringRebuild) {
+                    LocalDateTime purchasedAt = purchasedAt(event);
+                    if (!purchasedAt.isBefore(cutoff)) {
+                        record(rebuilt, event.emotionId(), toEpochHour(purchasedAt), 1L);
+                    }
+                }
+                counters = rebuilt;
+                version.incrementAndGet();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            log.debug("최근 24시간 구매 순위 재구성: 감정 {}개", rebuilt.size());
+        } finally {
+            swapLock.writeLock().lock();
+            try {
+                rebuilding = false;
+                duringRebuild.clear();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static void record(Map<Long, HourlyCounter> target, Long emotionId, long epochHour, long amount) {
+        target.computeIfAbsent(emotionId, id -> new HourlyCounter()).add(epochHour, amount);
+    }
+
+    private static LocalDateTime purchasedAt(EmotionPurchasedEvent event) {
+        return event.purchasedAt() != null ? event.purchasedAt() : LocalDateTime.now();
+    }
+
+    private Ranking currentRanking() {
+        long currentHour = toEpochHour(LocalDateTime.now());
+        long currentVersion = version.get();
+
+        Ranking current = ranking.get();
+        if (current.hour() == currentHour && current.version() == currentVersion) {
+            return current;
+        }
+
+        Ranking next = new Ranking(currentHour, currentVersion, computeTopK(currentHour));
+        ranking.compareAndSet(current, next);
+        return next;
+    }
+
+    /**
+     * 크기 K의 최소 힙으로 상위 K개만 유지한 뒤 구매 수 내림차순으로 정렬
+     */
+    private long[] computeTopK(long currentHour) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(RANKING_SIZE + 1,
+                (a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(b[0], a[0]));
+
+        for (Map.Entry<Long, HourlyCounter> entry : counters.entrySet()) {
+            long count = entry.getValue().sum(currentHour);
+            if (count == 0) {
+                continue;
+            }
+            heap.offer(new long[]{entry.getKey(), count});
+            if (heap.size() > RANKING_SIZE) {
+                heap.poll();
+            }
+        }
+
+        long[] emotionIds = new long[heap.size()];
+        for (int i = emotionIds.length - 1; i >= 0; i--) {
+            emotionIds[i] = heap.poll()[0];
+        }
+        return emotionIds;
+    }
+
+    private static long toEpochHour(LocalDateTime dateTime) {
+        // DB의 date_trunc('hour', created_at)과 같은 기준이 되도록 LocalDateTime 그대로 시간 단위로 환산
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private record Ranking(long hour, long version, long[] emotionIds) {
+    }
+
+    /**
+     * 1시간 단위 슬롯 24개 링 버퍼 (슬롯에 기록된 시간이 다르면 재사용 전에 초기화)
+     */
+    private static final class HourlyCounter {
+
+        private final long[] hours = new long[WINDOW_HOURS];
+        private final long[] counts = new long[WINDOW_HOURS];
+
+        synchronized void add(long epochHour, long amount) {
+            int slot = (int) Math.floorMod(epochHour, (long) WINDOW_HOURS);
+            if (hours[slot] > epochHour) {
+                return; // 이미 지난 시간대의 늦은 기록
+            }
+            if (hours[slot] != epochHour) {
+                hours[slot] = epochHour;
+                counts[slot] = 0;
+            }
+            counts[slot] += amount;
+        }
+
+        synchronized long sum(long currentHour) {
+            long total = 0;
+            for (int i = 0; i < WINDOW_HOURS; i++) {
+                if (hours[i] > currentHour - WINDOW_HOURS && hours[i] <= currentHour) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.app.emotion_market.service.catalog;
+
+import com.app.emotion_market.enums.EmotionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 카탈로그 스냅샷에 보관하는 감정 상품 정보 (contents 대신 미리보기 문구만 보관)
+ */
+public record CatalogItem(Long id,
+                          EmotionType emotionType,
+                          String name,
+                          String description,
+                          String emoji,
+                          Integer categoryId,
+                          Integer price,
+                          BigDecimal averageRating,
+                          Integer totalPurchases,
+                          Integer sortOrder,
+                          LocalDateTime createdAt,
+                          String previewMusic,
+                          String previewVideo,
+                          String previewText,
+                          String previewGuide) {
+
+    public double rating() {
+        return averageRating != null ? averageRating.doubleValue() : 0.0;
+    }
+}
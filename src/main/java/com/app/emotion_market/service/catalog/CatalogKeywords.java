@@ -0,0 +1,48 @@
+package com.app.emotion_market.service.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 카탈로그 검색어 정규화/분리
+ * 검색 색인과 DB 검색이 같은 규칙으로 일치 여부를 판단하도록 공유
+ */
+public final class CatalogKeywords {
+
+    private CatalogKeywords() {
+    }
+
+    /**
+     * 소문자로 정규화 (null이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 입력은 있지만 검색할 글자/숫자가 없는 키워드 ("!!!" 등)
+     * 필터만 적용한 전체 목록이 아니라 빈 결과를 돌려줘야 함
+     */
+    public static boolean hasNoSearchableWords(String keyword) {
+        return keyword != null && !keyword.isBlank() && words(normalize(keyword)).isEmpty();
+    }
+
+    /**
+     * 정규화한 텍스트를 글자/숫자 연속 구간 단위로 분리
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
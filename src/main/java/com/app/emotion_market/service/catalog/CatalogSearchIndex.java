@@ -0,0 +1,183 @@
+package com.app.emotion_market.service.catalog;
+
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
+
+import java.util.*;
+
+import static com.app.emotion_market.service.catalog.CatalogKeywords.hasNoSearchableWords;
+import static com.app.emotion_market.service.catalog.CatalogKeywords.normalize;
+import static com.app.emotion_market.service.catalog.CatalogKeywords.words;
+
+/**
+ * 카탈로그 검색용 역색인
+ * 이름, 설명, 감정 유형 한글명을 단어 단위로 나눈 뒤 글자 단위 1-gram/2-gram으로 색인
+ * 한글은 음절 하나가 의미 단위에 가까워 형태소 분석 없이 부분 일치 검색이 가능
+ * 문서 번호는 인기순 배열의 위치이므로 posting 목록의 교집합이 곧 인기순 결과가 됨
+ */
+final class CatalogSearchIndex {
+
+    private static final int[] NO_DOCS = new int[0];
+
+    private static final int NAME_SCORE = 4;
+    private static final int TYPE_SCORE = 2;
+    private static final int DESCRIPTION_SCORE = 1;
+
+    private final CatalogItem[] docs;
+    private final String[] names;
+    private final String[] typeNames;
+    private final String[] descriptions;
+    private final Map<String, int[]> postings;
+
+    CatalogSearchIndex(CatalogItem[] byPopularity) {
+        this.docs = byPopularity;
+        this.names = new String[docs.length];
+        this.typeNames = new String[docs.length];
+        this.descriptions = new String[docs.length];
+
+        Map<String, BitSet> grams = new HashMap<>();
+        for (int doc = 0; doc < docs.length; doc++) {
+            CatalogItem item = docs[doc];
+            names[doc] = normalize(item.name());
+            typeNames[doc] = item.emotionType() != null ? normalize(item.emotionType().getKoreanName()) : "";
+            descriptions[doc] = normalize(item.description());
+
+            for (String text : new String[]{names[doc], typeNames[doc], descriptions[doc]}) {
+                for (String word : words(text)) {
+                    for (String gram : grams(word, true)) {
+                        grams.computeIfAbsent(gram, key -> new BitSet()).set(doc);
+                    }
+                }
+            }
+        }
+
+        Map<String, int[]> built = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, bits) -> built.put(gram, bits.stream().toArray()));
+        this.postings = built;
+    }
+
+    /**
+     * 키워드와 필터를 만족하는 상품을 점수(이름 > 감정 유형 > 설명) 내림차순, 동점이면 인기순으로 반환
+     * 키워드가 없으면 필터만 적용하고, 검색할 단어가 없는 키워드는 빈 결과
+     */
+    List<CatalogItem> search(ShopSearchCondition condition) {
+        if (hasNoSearchableWords(condition.getKeyword())) {
+            return List.of();
+        }
+        List<String> queryWords = words(normalize(condition.getKeyword()));
+
+        int[] candidates = queryWords.isEmpty() ? null : candidates(queryWords);
+        if (candidates != null && candidates.length == 0) {
+            return List.of();
+        }
+
+        List<int[]> hits = new ArrayList<>();
+        int count = candidates != null ? candidates.length : docs.length;
+        for (int i = 0; i < count; i++) {
+            int doc = candidates != null ? candidates[i] : i;
+            if (!matchesFilters(docs[doc], condition)) {
+                continue;
+            }
+            int score = queryWords.isEmpty() ? 0 : score(doc, queryWords);
+            if (score >= 0) {
+                hits.add(new int[]{doc, score});
+            }
+        }
+
+        // 정렬은 안정적이므로 같은 점수 안에서는 인기순(문서 번호) 유지
+        hits.sort((a, b) -> Integer.compare(b[1], a[1]));
+
+        List<CatalogItem> result = new ArrayList<>(hits.size());
+        for (int[] hit : hits) {
+            result.add(docs[hit[0]]);
+        }
+        return result;
+    }
+
+    /**
+     * 모든 검색어의 n-gram posting 교집합 (정렬된 배열 병합)
+     */
+    private int[] candidates(List<String> queryWords) {
+        int[] result = null;
+        for (String word : queryWords) {
+            for (String gram : grams(word, false)) {
+                int[] posting = postings.getOrDefault(gram, NO_DOCS);
+                result = result == null ? posting : intersect(result, posting);
+                if (result.length == 0) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * n-gram 교집합은 후보일 뿐이므로 실제 포함 여부를 확인하며 점수 계산 (불일치 시 -1)
+     */
+    private int score(int doc, List<String> queryWords) {
+        int score = 0;
+        for (String word : queryWords) {
+            int wordScore = 0;
+            if (names[doc].contains(word)) wordScore += NAME_SCORE;
+            if (typeNames[doc].contains(word)) wordScore += TYPE_SCORE;
+            if (descriptions[doc].contains(word)) wordScore += DESCRIPTION_SCORE;
+            if (wordScore == 0) {
+                return -1;
+            }
+            score += wordScore;
+        }
+        return score;
+    }
+
+    /**
+     * 값이 없는 항목은 해당 필터를 만족하지 않는 것으로 처리 (DB 검색의 NULL 비교와 동일)
+     */
+    private static boolean matchesFilters(CatalogItem item, ShopSearchCondition condition) {
+        if (condition.getCategoryId() != null
+                && (item.categoryId() == null || item.categoryId().longValue() != condition.getCategoryId())) {
+            return false;
+        }
+        if (condition.getEmotionType() != null && item.emotionType() != condition.getEmotionType()) {
+            return false;
+        }
+        if (condition.getMinPrice() != null && (item.price() == null || item.price() < condition.getMinPrice())) {
+            return false;
+        }
+        if (condition.getMaxPrice() != null && (item.price() == null || item.price() > condition.getMaxPrice())) {
+            return false;
+        }
+        return condition.getMinRating() == null || item.rating() >= condition.getMinRating();
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                out[n++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 색인 시에는 1-gram과 2-gram을 모두, 검색 시에는 한 글자 단어만 1-gram으로 조회
+     */
+    private static List<String> grams(String word, boolean forIndex) {
+        List<String> grams = new ArrayList<>();
+        if (forIndex || word.length() == 1) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+            }
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            grams.add(word.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
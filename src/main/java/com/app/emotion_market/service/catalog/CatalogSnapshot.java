@@ -0,0 +1,69 @@
+package com.app.emotion_market.service.catalog;
+
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
+
+import java.util.*;
+
+/**
+ * 활성 감정 상품 전체의 불변 스냅샷
+ * 전체/카테고리별로 정렬 기준마다 미리 정렬한 배열을 보관하며 생성 후에는 변경하지 않음
+ */
+final class CatalogSnapshot {
+
+    private static final CatalogItem[] EMPTY = new CatalogItem[0];
+
+    static final CatalogSnapshot EMPTY_SNAPSHOT = new CatalogSnapshot(List.of());
+
+    private final Map<Long, CatalogItem> byId;
+    private final EnumMap<CatalogSort, CatalogItem[]> global;
+    private final Map<Integer, EnumMap<CatalogSort, CatalogItem[]>> byCategory;
+    private final CatalogSearchIndex searchIndex;
+
+    CatalogSnapshot(List<CatalogItem> items) {
+        Map<Long, CatalogItem> ids = new HashMap<>(items.size() * 2);
+        Map<Integer, List<CatalogItem>> grouped = new HashMap<>();
+        for (CatalogItem item : items) {
+            ids.put(item.id(), item);
+            grouped.computeIfAbsent(item.categoryId(), id -> new ArrayList<>()).add(item);
+        }
+
+        Map<Integer, EnumMap<CatalogSort, CatalogItem[]>> categories = new HashMap<>();
+        grouped.forEach((categoryId, categoryItems) -> categories.put(categoryId, sortAll(categoryItems)));
+
+        this.byId = Collections.unmodifiableMap(ids);
+        this.global = sortAll(items);
+        this.byCategory = Collections.unmodifiableMap(categories);
+        this.searchIndex = new CatalogSearchIndex(global.get(CatalogSort.POPULARITY));
+    }
+
+    Optional<CatalogItem> find(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    CatalogItem[] sorted(CatalogSort sort) {
+        return global.get(sort);
+    }
+
+    CatalogItem[] sorted(Integer categoryId, CatalogSort sort) {
+        EnumMap<CatalogSort, CatalogItem[]> views = byCategory.get(categoryId);
+        return views != null ? views.get(sort) : EMPTY;
+    }
+
+    List<CatalogItem> search(ShopSearchCondition condition) {
+        return searchIndex.search(condition);
+    }
+
+    private static EnumMap<CatalogSort, CatalogItem[]> sortAll(List<CatalogItem> items) {
+        EnumMap<CatalogSort, CatalogItem[]> views = new EnumMap<>(CatalogSort.class);
+        for (CatalogSort sort : CatalogSort.values()) {
+            CatalogItem[] array = items.toArray(EMPTY);
+            Arrays.sort(array, sort.getComparator());
+            views.put(sort, array);
+        }
+        return views;
+    }
+}
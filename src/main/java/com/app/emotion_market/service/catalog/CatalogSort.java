@@ -0,0 +1,43 @@
+package com.app.emotion_market.service.catalog;
+
+import java.util.Comparator;
+
+/**
+ * 카탈로그 정렬 기준 (스냅샷 생성 시 기준별로 미리 정렬해 둠)
+ */
+public enum CatalogSort {
+    POPULARITY(Comparator.comparing(CatalogItem::totalPurchases, Comparator.reverseOrder())
+            .thenComparing(CatalogItem::rating, Comparator.reverseOrder())),
+    RATING(Comparator.comparing(CatalogItem::rating, Comparator.reverseOrder())
+            .thenComparing(CatalogItem::totalPurchases, Comparator.reverseOrder())),
+    PRICE_ASC(Comparator.comparing(CatalogItem::price)),
+    PRICE_DESC(Comparator.comparing(CatalogItem::price, Comparator.reverseOrder())),
+    NAME(Comparator.comparing(CatalogItem::name));
+
+    private final Comparator<CatalogItem> comparator;
+
+    CatalogSort(Comparator<CatalogItem> comparator) {
+        // 동률일 때 결과가 매번 같도록 ID로 마무리
+        this.comparator = comparator.thenComparing(CatalogItem::id);
+    }
+
+    public Comparator<CatalogItem> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * 요청 파라미터 변환 (알 수 없는 값은 인기순)
+     */
+    public static CatalogSort from(String sort) {
+        if (sort == null) {
+            return POPULARITY;
+        }
+        return switch (sort.toLowerCase()) {
+            case "price_asc" -> PRICE_ASC;
+            case "price_desc" -> PRICE_DESC;
+            case "rating" -> RATING;
+            case "name" -> NAME;
+            default -> POPULARITY;
+        };
+    }
+}
@@ -0,0 +1,175 @@
+package com.app.emotion_market.service.catalog;
+
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
+import com.app.emotion_market.event.CatalogChangedEvent;
+import com.app.emotion_market.repository.SystemEmotionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 감정 상품 카탈로그 메모리 스냅샷
+ * 활성 상품 전체를 한 번에 적재해 정렬 기준별 배열과 검색 색인으로 보관하고, 상점 조회는 DB 없이 스냅샷에서 처리
+ * 관리자 변경은 커밋 직후 새 스냅샷으로 교체하며, 구매 수 변경은 모아서 주기적으로 반영
+ * 다른 노드의 변경은 주기 작업의 버전 확인(상품 수, 마지막 수정 시각)과 최대 보관 시간 경과 시 전체 재적재로 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmotionCatalogService {
+
+    private final SystemEmotionRepository systemEmotionRepository;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+
+    private volatile CatalogVersion loadedVersion;
+    private volatile long refreshedAt;
+
+    @Value("${app.catalog.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    /**
+     * 정렬 기준 상위 N개 조회
+     */
+    public List<CatalogItem> findTop(CatalogSort sort, int limit) {
+        return slice(current().sorted(sort), 0, limit);
+    }
+
+    /**
+     * 카테고리별 감정 상품 조회 (페이징)
+     */
+    public Page<CatalogItem> findByCategory(Long categoryId, CatalogSort sort, Pageable pageable) {
+        CatalogItem[] items = current().sorted(categoryId.intValue(), sort);
+        List<CatalogItem> content = slice(items, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, items.length);
+    }
+
+    /**
+     * 감정 상품 단건 조회
+     */
+    public Optional<CatalogItem> findById(Long emotionId) {
+        return current().find(emotionId);
+    }
+
+    /**
+     * 스냅샷 적재 여부
+     */
+    public boolean isReady() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * 키워드/필터 검색 (역색인 사용, 페이징)
+     */
+    public Page<CatalogItem> search(ShopSearchCondition condition, Pageable pageable) {
+        List<CatalogItem> hits = current().search(condition);
+        List<CatalogItem> content = hits.subList(
+                (int) Math.min(pageable.getOffset(), hits.size()),
+                (int) Math.min(pageable.getOffset() + pageable.getPageSize(), hits.size()));
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * 전체 다시 적재 후 스냅샷 교체 (copy-on-write)
+     */
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        // 적재 중 들어온 변경은 다음 주기에 다시 반영되도록 먼저 해제
+        stale.set(false);
+
+        // 적재 전에 버전을 읽어야 적재 중 다른 노드에서 바뀐 내용이 다음 주기에 감지됨
+        CatalogVersion version = currentVersion();
+        List<CatalogItem> items = systemEmotionRepository.findActiveCatalogItems();
+        snapshot.set(new CatalogSnapshot(items));
+        loadedVersion = version;
+        refreshedAt = System.currentTimeMillis();
+        log.debug("감정 카탈로그 스냅샷 갱신: {}건", items.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+        log.info("감정 카탈로그 스냅샷 적재 완료: {}건", current().size());
+    }
+
+    /**
+     * 감정 상품/카테고리 변경 커밋 후 반영
+     * 구매 수만 바뀐 경우에는 표시만 해두고 주기 작업에서 한 번에 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.counterOnly()) {
+            stale.set(true);
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * 이 노드에서 표시한 변경, 다른 노드의 상품 변경(버전 불일치), 최대 보관 시간 경과 중 하나라도 해당하면 재적재
+     * 구매 수/평점처럼 수정 시각을 바꾸지 않는 다른 노드의 변경은 최대 보관 시간 안에 반영됨
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.refresh-interval-ms:5000}")
+    public void refreshIfStale() {
+        if (stale.get()
+                || System.currentTimeMillis() - refreshedAt >= maxAgeMs
+                || !currentVersion().equals(loadedVersion)) {
+            refresh();
+        }
+    }
+
+    /**
+     * 현재 DB의 카탈로그 버전 (다른 노드의 상품 변경 감지용)
+     */
+    public CatalogVersion currentVersion() {
+        return systemEmotionRepository.findCatalogVersion()
+                .map(row -> new CatalogVersion(((Number) row[0]).longValue(), (LocalDateTime) row[1]))
+                .orElse(CatalogVersion.EMPTY);
+    }
+
+    private CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        return current != null ? current : CatalogSnapshot.EMPTY_SNAPSHOT;
+    }
+
+    /**
+     * 카탈로그 버전 (상품 수, 마지막 수정 시각)
+     */
+    public record CatalogVersion(long count, LocalDateTime lastUpdatedAt) {
+
+        static final CatalogVersion EMPTY = new CatalogVersion(0L, null);
+    }
+
+    private static List<CatalogItem> slice(CatalogItem[] items, long offset, int limit) {
+        if (offset >= items.length || limit <= 0) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min(items.length, offset + limit);
+        return Collections.unmodifiableList(Arrays.asList(items).subList(from, to));
+    }
+}
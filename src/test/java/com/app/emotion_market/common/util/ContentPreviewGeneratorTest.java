@@ -0,0 +1,64 @@
+package com.app.emotion_market.common.util;
+
+import com.app.emotion_market.entity.SystemEmotion;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentPreviewGeneratorTest {
+
+    @Test
+    void summarizesEachContentType() {
+        ContentPreviewGenerator.Preview preview = ContentPreviewGenerator.generate("""
+            {
+              "music": [{"title": "a"}, {"title": "b"}, {"title": "c"}],
+              "videos": [{"duration": "3:30"}, {"duration": "1:02:00"}],
+              "texts": [{"title": "오늘의 시"}, {"title": "편지"}],
+              "guides": [{"title": "호흡 명상", "steps": ["1", "2", "3", "4"]}]
+            }
+            """);
+
+        assertThat(preview.music()).isEqualTo("플레이리스트 3곡");
+        assertThat(preview.video()).isEqualTo("영상 2편 (총 66분)");
+        assertThat(preview.text()).isEqualTo("오늘의 시 외 1개");
+        assertThat(preview.guide()).isEqualTo("호흡 명상 4단계");
+    }
+
+    @Test
+    void singleTextHasNoSuffix() {
+        ContentPreviewGenerator.Preview preview = ContentPreviewGenerator.generate("""
+            {"texts": [{"title": "오늘의 시"}]}
+            """);
+
+        assertThat(preview.text()).isEqualTo("오늘의 시");
+    }
+
+    @Test
+    void longTitlesFitPreviewColumn() {
+        String title = "가".repeat(300);
+        ContentPreviewGenerator.Preview preview = ContentPreviewGenerator.generate(
+                "{\"texts\": [{\"title\": \"" + title + "\"}, {\"title\": \"b\"}],"
+                        + " \"guides\": [{\"title\": \"" + title + "\", \"steps\": [\"1\", \"2\"]}]}");
+
+        assertThat(preview.text()).hasSize(SystemEmotion.PREVIEW_LENGTH).endsWith("… 외 1개");
+        assertThat(preview.guide()).hasSize(SystemEmotion.PREVIEW_LENGTH).endsWith("… 2단계");
+    }
+
+    @Test
+    void truncationDoesNotSplitSurrogatePairs() {
+        String title = "a".repeat(SystemEmotion.PREVIEW_LENGTH - 2) + "😀😀😀";
+
+        String fitted = ContentPreviewGenerator.fit(title, "");
+
+        assertThat(fitted.length()).isLessThanOrEqualTo(SystemEmotion.PREVIEW_LENGTH);
+        assertThat(Character.isHighSurrogate(fitted.charAt(fitted.length() - 2))).isFalse();
+        assertThat(fitted).endsWith("…");
+    }
+
+    @Test
+    void missingOrBrokenContentsGiveEmptyPreview() {
+        assertThat(ContentPreviewGenerator.generate(null)).isEqualTo(ContentPreviewGenerator.Preview.EMPTY);
+        assertThat(ContentPreviewGenerator.generate("{not json")).isEqualTo(ContentPreviewGenerator.Preview.EMPTY);
+        assertThat(ContentPreviewGenerator.generate("{}")).isEqualTo(ContentPreviewGenerator.Preview.EMPTY);
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.emotion_market.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이밍 휠 테스트
+ * 상위 휠에서 하위 휠로 내려오는 항목과 칸 번호가 한 바퀴 돌아 다시 0이 되는 경계를 확인
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10L;
+    private static final int WHEEL_SIZE = 4;
+    private static final int LEVELS = 3; // 4^3 = 64틱
+
+    @Test
+    void itemInUpperWheelCascadesDownAndFiresAtItsTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, LEVELS, 0L);
+
+        // 35틱 뒤는 최상위 휠, 9틱 뒤는 중간 휠에 등록됨
+        assertThat(wheel.schedule(35 * TICK_MS, "upper")).isTrue();
+        assertThat(wheel.schedule(9 * TICK_MS, "middle")).isTrue();
+
+        assertThat(wheel.advanceTo(8 * TICK_MS)).isEmpty();
+        assertThat(wheel.advanceTo(9 * TICK_MS)).containsExactly("middle");
+        assertThat(wheel.advanceTo(34 * TICK_MS + TICK_MS - 1)).isEmpty();
+        assertThat(wheel.advanceTo(35 * TICK_MS)).containsExactly("upper");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void everyTickInRangeFiresExactlyOnceAcrossWrapAround() {
+        // 휠 경계에 걸치도록 칸 번호 중간에서 시작하고 두 바퀴 이상 진행
+        long startTick = 61;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, LEVELS, startTick * TICK_MS);
+
+        for (long tick = startTick + 1; tick < startTick + 64; tick++) {
+            assertThat(wheel.schedule(tick * TICK_MS, tick)).isTrue();
+        }
+
+        for (long tick = startTick + 1; tick < startTick + 64; tick++) {
+            assertThat(wheel.advanceTo(tick * TICK_MS)).containsExactly(tick);
+        }
+        assertThat(wheel.size()).isZero();
+
+        // 두 번째 바퀴도 같은 칸을 재사용해 정확히 동작
+        long secondRound = startTick + 64 + 17;
+        wheel.schedule(secondRound * TICK_MS, secondRound);
+        assertThat(wheel.advanceTo((secondRound - 1) * TICK_MS)).isEmpty();
+        assertThat(wheel.advanceTo(secondRound * TICK_MS)).containsExactly(secondRound);
+    }
+
+    @Test
+    void advancingManyTicksAtOnceReturnsItemsInDeadlineOrder() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, LEVELS, 0L);
+        List<Integer> expected = new ArrayList<>();
+        for (int tick = 60; tick >= 1; tick -= 7) {
+            wheel.schedule(tick * TICK_MS, tick);
+            expected.add(0, tick);
+        }
+
+        assertThat(wheel.advanceTo(63 * TICK_MS)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTickAndOutOfRangeIsRejected() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, LEVELS, 100 * TICK_MS);
+
+        assertThat(wheel.schedule(50 * TICK_MS, "late")).isTrue();
+        assertThat(wheel.schedule((100 + 64) * TICK_MS, "too far")).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advanceTo(101 * TICK_MS)).containsExactly("late");
+    }
+}
@@ -0,0 +1,55 @@
+package com.app.emotion_market.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 포인트 거래 내역 커서 인코딩/디코딩 테스트
+ */
+class PointTransactionCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        PointTransactionCursor cursor = new PointTransactionCursor(LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_456_000), 42L);
+
+        assertThat(PointTransactionCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeMinuteTimestamp() {
+        // LocalDateTime.toString은 초가 0이면 생략하므로 그 형식도 다시 읽을 수 있어야 함
+        PointTransactionCursor cursor = new PointTransactionCursor(LocalDateTime.of(2026, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(PointTransactionCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding() {
+        String encoded = new PointTransactionCursor(LocalDateTime.of(2026, 10, 1, 9, 30, 15, 1_000), 7L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> PointTransactionCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("올바르지 않은 커서입니다");
+        assertThatThrownBy(() -> PointTransactionCursor.decode(encode("2026-10-01T09:30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PointTransactionCursor.decode(encode("yesterday|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PointTransactionCursor.decode(encode("2026-10-01T09:30|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,272 @@
+package com.app.emotion_market.repository;
+
+import com.app.emotion_market.entity.Purchase;
+import com.app.emotion_market.entity.SystemEmotion;
+import com.app.emotion_market.entity.User;
+import com.app.emotion_market.enums.EmotionType;
+import com.app.emotion_market.enums.PurchaseStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 SQL 구매의 동시성 부하 테스트 (PostgreSQL 전용 SQL이므로 실제 DB가 필요)
+ * 이전 방식(사용자/상품 조회, 중복 확인, 차감, 저장, 구매 수 증가를 각각 실행)과 처리량을 비교하고
+ * 두 방식 모두 잔액, 구매 건수, 구매 수가 같은 불변식을 만족하는지 확인
+ * PURCHASE_LOAD_TEST=true 일 때만 실행
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "PURCHASE_LOAD_TEST", matches = "true")
+class PurchaseConcurrencyLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PurchaseConcurrencyLoadTest.class);
+
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 20;
+    private static final int PRICE = 10;
+    private static final int INITIAL_POINTS = 1_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SystemEmotionRepository systemEmotionRepository;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentPurchasesOfSameEmotionSucceedOnlyOnce() throws Exception {
+        User user = saveUser(INITIAL_POINTS);
+        SystemEmotion emotion = saveEmotion();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        long elapsed = runConcurrently(THREADS, i -> {
+            if (purchase(user.getId(), emotion.getId())) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        log.info("same user/emotion: attempts={}, succeeded={}, elapsed={}ms", THREADS, succeeded.get(), elapsed);
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(countPurchases(user.getId())).isEqualTo(1);
+        assertThat(points(user.getId())).isEqualTo(INITIAL_POINTS - PRICE);
+        assertThat(totalPurchases(emotion.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentPurchasesNeverOversell() throws Exception {
+        int affordable = 3;
+        User user = saveUser(PRICE * affordable);
+        List<SystemEmotion> emotions = saveEmotions(THREADS);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(THREADS, i -> {
+            if (purchase(user.getId(), emotions.get(i).getId())) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        log.info("oversell guard: attempts={}, affordable={}, succeeded={}", THREADS, affordable, succeeded.get());
+        assertThat(succeeded.get()).isEqualTo(affordable);
+        assertThat(countPurchases(user.getId())).isEqualTo(affordable);
+        assertThat(points(user.getId())).isZero();
+    }
+
+    @Test
+    void singleStatementPurchaseKeepsInvariantsAndBeatsPreviousChain() throws Exception {
+        Outcome before = runDistinctUsers(this::previousPurchase);
+        Outcome after = runDistinctUsers(this::purchase);
+
+        log.info("distinct users ({} threads x {} purchases): before={}/s ({}ms, 6 round trips), after={}/s ({}ms, 1 statement), speedup={}x",
+                THREADS, ROUNDS,
+                String.format("%.1f", before.throughput()), before.elapsedMs(),
+                String.format("%.1f", after.throughput()), after.elapsedMs(),
+                String.format("%.2f", after.throughput() / Math.max(before.throughput(), 0.001)));
+
+        // 두 방식 모두 모든 구매가 성공하고 잔액/구매 건수/구매 수가 정확히 맞아야 함
+        Outcome expected = new Outcome(THREADS * ROUNDS,
+                Set.of(INITIAL_POINTS - ROUNDS * PRICE), Set.of(ROUNDS), Set.of(THREADS), 0L);
+        assertThat(before.withoutElapsed()).isEqualTo(expected);
+        assertThat(after.withoutElapsed()).isEqualTo(expected);
+    }
+
+    /**
+     * 사용자마다 스레드 하나가 서로 다른 감정 ROUNDS개를 차례로 구매
+     */
+    private Outcome runDistinctUsers(Purchaser purchaser) throws Exception {
+        List<SystemEmotion> emotions = saveEmotions(ROUNDS);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            users.add(saveUser(INITIAL_POINTS));
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        long elapsed = runConcurrently(THREADS, i -> {
+            for (SystemEmotion emotion : emotions) {
+                if (purchaser.purchase(users.get(i).getId(), emotion.getId())) {
+                    succeeded.incrementAndGet();
+                }
+            }
+        });
+
+        return new Outcome(
+                succeeded.get(),
+                users.stream().map(user -> points(user.getId())).collect(Collectors.toSet()),
+                users.stream().map(user -> countPurchases(user.getId())).collect(Collectors.toSet()),
+                emotions.stream().map(emotion -> totalPurchases(emotion.getId())).collect(Collectors.toSet()),
+                elapsed);
+    }
+
+    // 변경 전 구매 방식 (사용자/상품 조회, 중복 확인, 잔액 확인 후 차감, 구매 저장, 구매 수 증가)
+    private boolean previousPurchase(Long userId, Long emotionId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            SystemEmotion emotion = systemEmotionRepository.findByIdAndIsActiveTrue(emotionId).orElseThrow();
+            if (purchaseRepository.existsByUserIdAndEmotionIdAndCreatedAtAfterAndStatus(
+                    userId, emotionId, LocalDateTime.now().minusDays(7), PurchaseStatus.ACTIVE)) {
+                return false;
+            }
+            if (user.getPoints() < emotion.getPrice()) {
+                return false;
+            }
+            user.subtractPoints(emotion.getPrice());
+            userRepository.saveAndFlush(user);
+            purchaseRepository.save(Purchase.builder()
+                    .user(user)
+                    .emotion(emotion)
+                    .pointsSpent(emotion.getPrice())
+                    .build());
+            systemEmotionRepository.incrementTotalPurchases(emotionId);
+            return true;
+        }));
+    }
+
+    private boolean purchase(Long userId, Long emotionId) {
+        LocalDateTime now = LocalDateTime.now();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> purchaseRepository.purchaseAtomically(
+                userId, emotionId, null, true, now.minusDays(7), now, now.plusDays(7)).isPresent()));
+    }
+
+    private long runConcurrently(int tasks, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User saveUser(int points) {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        return userRepository.save(User.builder()
+                .email("load-" + suffix + "@test.com")
+                .password("password")
+                .nickname("load-" + suffix)
+                .points(points)
+                .agreeTerms(true)
+                .agreePrivacy(true)
+                .agreeMarketing(false)
+                .build());
+    }
+
+    private int points(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT points FROM users WHERE id = ?", Integer.class, userId);
+    }
+
+    private int countPurchases(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM purchases WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private int totalPurchases(Long emotionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT total_purchases FROM system_emotions WHERE id = ?", Integer.class, emotionId);
+    }
+
+    private List<SystemEmotion> saveEmotions(int count) {
+        List<SystemEmotion> emotions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            emotions.add(saveEmotion());
+        }
+        return emotions;
+    }
+
+    private SystemEmotion saveEmotion() {
+        return systemEmotionRepository.save(SystemEmotion.builder()
+                .emotionType(EmotionType.JOY)
+                .name("부하 테스트 감정")
+                .categoryId(1)
+                .price(PRICE)
+                .contents("{}")
+                .build());
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Purchaser {
+        boolean purchase(Long userId, Long emotionId);
+    }
+
+    /**
+     * 구매 성공 수와 사용자별 잔액, 사용자별 구매 건수, 감정별 구매 수의 서로 다른 값 집합
+     */
+    private record Outcome(int succeeded, Set<Integer> balances, Set<Integer> purchasesPerUser,
+                           Set<Integer> totalPurchases, long elapsedMs) {
+
+        double throughput() {
+            return succeeded * 1000.0 / Math.max(elapsedMs, 1);
+        }
+
+        Outcome withoutElapsed() {
+            return new Outcome(succeeded, balances, purchasesPerUser, totalPurchases, 0L);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.app.emotion_market.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 콘텐츠 접근 집계기 테스트
+ * 보관 한도를 채워도 요청 스레드에서는 DB에 쓰지 않고 반영 스레드가 배치로 반영하는지 확인
+ */
+class ContentAccessTrackerTest {
+
+    private static final int MAX_PENDING = 3;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<Thread> flushThreads = new CopyOnWriteArrayList<>();
+    private final List<List<Object[]>> batches = new CopyOnWriteArrayList<>();
+    private final ContentAccessTracker tracker = new ContentAccessTracker(jdbcTemplate, MAX_PENDING);
+
+    @AfterEach
+    void tearDown() {
+        tracker.flushOnShutdown();
+    }
+
+    @Test
+    void fullBufferIsFlushedOffTheRequestThread() {
+        recordBatches();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (long purchaseId = 1; purchaseId <= MAX_PENDING; purchaseId++) {
+            tracker.record(purchaseId, now);
+        }
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        // 한도를 채운 뒤 새 구매 ID가 들어오면 조기 반영
+        tracker.record(MAX_PENDING + 1L, now);
+
+        verify(jdbcTemplate, timeout(1_000)).batchUpdate(anyString(), anyList());
+        assertThat(flushThreads).isNotEmpty().doesNotContain(Thread.currentThread());
+        assertThat(batches.get(0)).hasSizeGreaterThanOrEqualTo(MAX_PENDING);
+    }
+
+    @Test
+    void repeatedAccessesAreMergedAndCounted() {
+        recordBatches();
+        LocalDateTime first = LocalDateTime.now();
+        LocalDateTime last = first.plusSeconds(5);
+
+        tracker.record(1L, first);
+        tracker.record(1L, last);
+        assertThat(tracker.record(1L, first)).isEqualTo(3);
+        assertThat(tracker.pendingCount(1L)).isEqualTo(3);
+
+        tracker.flush();
+
+        assertThat(tracker.pendingCount(1L)).isZero();
+        Object[] row = batches.get(0).get(0);
+        assertThat(row[0]).isEqualTo(3);
+        assertThat(row[1]).isEqualTo(Timestamp.valueOf(last));
+        assertThat(row[3]).isEqualTo(1L);
+    }
+
+    @Test
+    void failedFlushKeepsAccessesForNextRound() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("connection lost");
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        tracker.record(1L, LocalDateTime.now());
+        tracker.flush();
+
+        assertThat(tracker.pendingCount(1L)).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordBatches() {
+        doAnswer(invocation -> {
+            flushThreads.add(Thread.currentThread());
+            batches.add(List.copyOf((List<Object[]>) invocation.getArgument(1)));
+            return new int[0];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+}
@@ -0,0 +1,115 @@
+package com.app.emotion_market.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 중복 구매 블룸 필터 테스트
+ * 7일 구간 판단, 동시 기록 시 한 번만 "중복 아님"을 받는지, 오탐률이 목표 범위인지 확인
+ */
+class DuplicatePurchaseFilterTest {
+
+    private static final int EXPECTED_PER_DAY = 1_000;
+
+    private final DuplicatePurchaseFilter filter =
+            new DuplicatePurchaseFilter(mock(JdbcTemplate.class), true, EXPECTED_PER_DAY, 0.01);
+
+    @Test
+    void secondPurchaseOfSamePairMightBeDuplicate() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(filter.put(1L, 10L, now)).isFalse();
+        assertThat(filter.put(1L, 10L, now)).isTrue();
+        assertThat(filter.put(1L, 11L, now)).isFalse();
+        assertThat(filter.put(2L, 10L, now)).isFalse();
+    }
+
+    @Test
+    void purchasesWithinSevenDaysCountButOlderOnesDoNot() {
+        LocalDateTime now = LocalDateTime.now();
+
+        filter.put(1L, 10L, now.minusDays(6));
+        filter.put(2L, 10L, now.minusDays(8));
+
+        assertThat(filter.put(1L, 10L, now)).isTrue();
+        assertThat(filter.put(2L, 10L, now)).isFalse();
+    }
+
+    @Test
+    void concurrentPutsOfSamePairLetOnlyOneThrough() throws Exception {
+        int threads = 16;
+        LocalDateTime now = LocalDateTime.now();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return filter.put(7L, 70L, now);
+                }));
+            }
+            start.countDown();
+
+            int notDuplicate = 0;
+            for (Future<Boolean> result : results) {
+                if (!result.get(10, TimeUnit.SECONDS)) {
+                    notDuplicate++;
+                }
+            }
+            assertThat(notDuplicate).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void falsePositivesStayNearTargetAtExpectedLoad() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long userId = 1; userId <= EXPECTED_PER_DAY; userId++) {
+            filter.put(userId, 1L, now);
+        }
+
+        int probes = 500;
+        int falsePositives = 0;
+        for (long userId = 1; userId <= probes; userId++) {
+            if (filter.put(userId, 2L, now)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void falsePositiveRateCountsOnlyFilteredAndFalseAlarms() {
+        filter.recordCheck(false, false);
+        filter.recordCheck(false, true); // 필터가 아니라고 판단하면 DB 결과는 무시
+        filter.recordCheck(false, false);
+        filter.recordCheck(true, false);
+        filter.recordCheck(true, true);
+        filter.recordCheck(true, true);
+
+        assertThat(filter.falsePositiveRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    void disabledFilterAlwaysDefersToDatabase() {
+        DuplicatePurchaseFilter disabled = new DuplicatePurchaseFilter(mock(JdbcTemplate.class), false, EXPECTED_PER_DAY, 0.01);
+
+        assertThat(disabled.put(1L, 10L, LocalDateTime.now())).isTrue();
+        disabled.recordCheck(true, false);
+        assertThat(disabled.falsePositiveRate()).isZero();
+    }
+}
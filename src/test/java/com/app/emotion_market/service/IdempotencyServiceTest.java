@@ -0,0 +1,108 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.dto.response.common.ApiResponse;
+import com.app.emotion_market.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멱등 선점과 업무 트랜잭션 반영 표시 테스트
+ */
+class IdempotencyServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String ENDPOINT = "POST /api/purchases";
+    private static final String KEY = "key-1";
+
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(repository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper().findAndRegisterModules(), 100);
+        ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(idempotencyService, "processingLeaseSeconds", 30L);
+
+        when(repository.reserve(any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        when(repository.complete(any(), any(), any(), any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void claimOutsideIdempotentRequestIsNoop() {
+        idempotencyService.claimInCurrentTransaction();
+
+        verify(repository, never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    void businessTransactionClaimsOwnReservation() {
+        when(repository.claim(eq(USER_ID), eq(ENDPOINT), eq(KEY), any())).thenReturn(1);
+
+        ResponseEntity<ApiResponse<String>> response = execute(() -> {
+            idempotencyService.claimInCurrentTransaction();
+            return ResponseEntity.ok(ApiResponse.success("완료", "ok"));
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(repository).claim(eq(USER_ID), eq(ENDPOINT), eq(KEY), any());
+        verify(repository).complete(eq(USER_ID), eq(ENDPOINT), eq(KEY), any(), eq(200), anyString());
+    }
+
+    @Test
+    void takenOverReservationAbortsBusinessTransaction() {
+        when(repository.claim(any(), any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> execute(() -> {
+            idempotencyService.claimInCurrentTransaction();
+            return ResponseEntity.ok(ApiResponse.success("완료", "ok"));
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(repository, never()).complete(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void appliedButUnfinishedRequestIsNotExecutedAgain() {
+        when(repository.reserve(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(repository.findResult(USER_ID, ENDPOINT, KEY)).thenReturn(Optional.of(new Object[]{
+                hashOf(Map.of("emotionId", 1)), null, null, LocalDateTime.now().plusHours(1), true}));
+
+        ResponseEntity<ApiResponse<String>> response = execute(() -> {
+            throw new AssertionError("이미 반영된 요청을 다시 실행함");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).contains("이미 처리된 요청");
+    }
+
+    private ResponseEntity<ApiResponse<String>> execute(
+            Supplier<ResponseEntity<ApiResponse<String>>> action) {
+        return idempotencyService.execute(USER_ID, ENDPOINT, KEY, Map.of("emotionId", 1), String.class, action);
+    }
+
+    private String hashOf(Object request) {
+        return ReflectionTestUtils.invokeMethod(idempotencyService, "hash", request);
+    }
+}
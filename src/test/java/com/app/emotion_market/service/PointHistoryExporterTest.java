@@ -0,0 +1,157 @@
+package com.app.emotion_market.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포인트 거래 내역 내보내기 형식 테스트
+ * CSV는 RFC 4180 규칙대로 쉼표/따옴표/줄바꿈이 든 값만 감싸는지, NDJSON은 한 줄에 한 거래씩 쓰는지 확인
+ */
+class PointHistoryExporterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 9, 30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Map<String, Object>> rows = new ArrayList<>();
+    private PointHistoryExporter exporter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ResultSet resultSet = fakeResultSet();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        exporter = new PointHistoryExporter(dataSource, mock(PlatformTransactionManager.class), objectMapper, 500);
+    }
+
+    @Test
+    void csvQuotesOnlyValuesThatNeedIt() throws Exception {
+        addRow(1L, -10, "SPENT", "감정 구매: 기쁨, 슬픔", 90, "EMOTION_PURCHASE", 5L);
+        addRow(2L, 100, "EARNED", "그가 \"안녕\"이라고 말함", 100, null, null);
+        addRow(3L, 5, "EARNED", "첫 줄\n둘째 줄", 105, null, null);
+        addRow(4L, 1, "EARNED", "출석 보상", 106, "ATTENDANCE", 9L);
+
+        String csv = export(PointHistoryExporter.Format.CSV, 4);
+
+        assertThat(csv).isEqualTo("""
+                transactionId,amount,transactionType,description,balanceAfter,relatedType,relatedId,createdAt
+                1,-10,SPENT,"감정 구매: 기쁨, 슬픔",90,EMOTION_PURCHASE,5,2026-10-01T09:30
+                2,100,EARNED,"그가 ""안녕""이라고 말함",100,,,2026-10-01T09:30
+                3,5,EARNED,"첫 줄
+                둘째 줄",105,,,2026-10-01T09:30
+                4,1,EARNED,출석 보상,106,ATTENDANCE,9,2026-10-01T09:30
+                """);
+    }
+
+    @Test
+    void csvWithoutTransactionsHasOnlyHeader() throws Exception {
+        assertThat(export(PointHistoryExporter.Format.CSV, 0))
+                .isEqualTo("transactionId,amount,transactionType,description,balanceAfter,relatedType,relatedId,createdAt\n");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        addRow(1L, -10, "SPENT", "감정 구매: \"기쁨\"\n", 90, "EMOTION_PURCHASE", 5L);
+        addRow(2L, 100, "EARNED", null, 100, null, null);
+
+        String ndjson = export(PointHistoryExporter.Format.NDJSON, 2);
+
+        assertThat(ndjson).endsWith("\n");
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("transactionId").asLong()).isEqualTo(1L);
+        assertThat(first.get("description").asText()).isEqualTo("감정 구매: \"기쁨\"\n");
+        assertThat(first.get("relatedId").asLong()).isEqualTo(5L);
+        assertThat(first.get("createdAt").asText()).isEqualTo("2026-10-01T09:30");
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("description").isNull()).isTrue();
+        assertThat(second.get("relatedType").isNull()).isTrue();
+        assertThat(second.get("relatedId").isNull()).isTrue();
+    }
+
+    @Test
+    void ndjsonWithoutTransactionsIsEmpty() throws Exception {
+        assertThat(export(PointHistoryExporter.Format.NDJSON, 0)).isEmpty();
+    }
+
+    private String export(PointHistoryExporter.Format format, long expectedRows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(exporter.export(1L, format, out)).isEqualTo(expectedRows);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void addRow(Long id, int amount, String type, String description, int balanceAfter,
+                        String relatedType, Long relatedId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("amount", amount);
+        row.put("transaction_type", type);
+        row.put("description", description);
+        row.put("balance_after", balanceAfter);
+        row.put("related_type", relatedType);
+        row.put("related_id", relatedId);
+        row.put("created_at", Timestamp.valueOf(CREATED_AT));
+        rows.add(row);
+    }
+
+    /**
+     * rows를 차례로 돌려주는 ResultSet (wasNull은 마지막으로 읽은 값 기준)
+     */
+    private ResultSet fakeResultSet() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        int[] index = {-1};
+        boolean[] lastNull = {false};
+
+        when(resultSet.next()).thenAnswer(invocation -> ++index[0] < rows.size());
+        when(resultSet.wasNull()).thenAnswer(invocation -> lastNull[0]);
+        when(resultSet.getLong(anyString())).thenAnswer(invocation -> {
+            Object value = rows.get(index[0]).get(invocation.<String>getArgument(0));
+            lastNull[0] = value == null;
+            return value != null ? ((Number) value).longValue() : 0L;
+        });
+        when(resultSet.getInt(anyString())).thenAnswer(invocation -> {
+            Object value = rows.get(index[0]).get(invocation.<String>getArgument(0));
+            lastNull[0] = value == null;
+            return value != null ? ((Number) value).intValue() : 0;
+        });
+        when(resultSet.getString(anyString())).thenAnswer(invocation -> {
+            Object value = rows.get(index[0]).get(invocation.<String>getArgument(0));
+            lastNull[0] = value == null;
+            return (String) value;
+        });
+        when(resultSet.getTimestamp(anyString())).thenAnswer(invocation -> {
+            Object value = rows.get(index[0]).get(invocation.<String>getArgument(0));
+            lastNull[0] = value == null;
+            return (Timestamp) value;
+        });
+        return resultSet;
+    }
+}
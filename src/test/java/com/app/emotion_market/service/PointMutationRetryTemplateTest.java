@@ -0,0 +1,97 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.entity.PointTransaction;
+import com.app.emotion_market.enums.TransactionType;
+import com.app.emotion_market.repository.impl.PointTransactionRepositoryImpl;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포인트 원장 순번 충돌 재시도 테스트
+ * 원장 INSERT의 (user_id, sequence_no) 유일 제약 위반이 저장소에서 DuplicateKeyException으로 바뀌어
+ * 재시도 템플릿의 재시도 대상이 되는지 확인
+ */
+class PointMutationRetryTemplateTest {
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final Query query = mock(Query.class);
+    private final PointTransactionRepositoryImpl repository =
+            new PointTransactionRepositoryImpl(mock(JPAQueryFactory.class), entityManager);
+
+    private PointMutationRetryTemplate retryTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+
+        retryTemplate = new PointMutationRetryTemplate(new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(IdempotencyService.class));
+        ReflectionTestUtils.setField(retryTemplate, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryTemplate, "initialBackoffMs", 1L);
+        ReflectionTestUtils.setField(retryTemplate, "maxBackoffMs", 1L);
+    }
+
+    @Test
+    void sequenceConflictIsRetried() {
+        Object[] row = {10L, 1L, 110};
+        when(query.getResultList())
+                .thenThrow(violation(PointTransaction.SEQUENCE_CONSTRAINT))
+                .thenReturn(List.<Object[]>of(row));
+
+        Optional<Object[]> appended = retryTemplate.execute("ledger-append", this::append);
+
+        assertThat(appended).containsSame(row);
+        verify(query, times(2)).getResultList();
+    }
+
+    @Test
+    void otherConstraintViolationIsNotRetried() {
+        PersistenceException violation = violation("uk_users_email");
+        when(query.getResultList()).thenThrow(violation);
+
+        assertThatThrownBy(() -> retryTemplate.execute("ledger-append", this::append)).isSameAs(violation);
+        verify(query, times(1)).getResultList();
+    }
+
+    @Test
+    void persistentSequenceConflictGivesUp() {
+        when(query.getResultList()).thenThrow(violation(PointTransaction.SEQUENCE_CONSTRAINT));
+
+        assertThatThrownBy(() -> retryTemplate.execute("ledger-append", this::append))
+                .isInstanceOf(IllegalStateException.class);
+        verify(query, times(3)).getResultList();
+    }
+
+    private Optional<Object[]> append() {
+        return repository.appendLedgerEntry(1L, 10, TransactionType.EARNED, "테스트", null, null, LocalDateTime.now());
+    }
+
+    private static PersistenceException violation(String constraintName) {
+        SQLException sqlException = new SQLException("duplicate key value violates unique constraint", "23505");
+        return new PersistenceException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+}
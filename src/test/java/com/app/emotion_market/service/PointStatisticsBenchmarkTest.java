@@ -0,0 +1,145 @@
+package com.app.emotion_market.service;
+
+import com.app.emotion_market.entity.User;
+import com.app.emotion_market.enums.TransactionType;
+import com.app.emotion_market.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 통계 조회 전후 비교 벤치마크 (PostgreSQL 전용 SQL이므로 실제 DB가 필요)
+ * 이전 방식(기간 합계, 유형별 획득, 유형별 사용 쿼리 3회)과 GROUPING SETS 쿼리 1회의 결과와 소요 시간을 비교
+ * POINT_STATISTICS_BENCHMARK=true 일 때만 실행
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "POINT_STATISTICS_BENCHMARK", matches = "true")
+class PointStatisticsBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStatisticsBenchmarkTest.class);
+
+    private static final int DAYS = 365;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    private static final String TOTALS_SQL = """
+        SELECT COALESCE(SUM(earned), 0), COALESCE(SUM(spent), 0), COALESCE(SUM(transaction_count), 0)
+        FROM point_daily_rollups
+        WHERE user_id = ? AND stat_date BETWEEN ? AND ?
+        """;
+
+    private static final String EARNINGS_BY_TYPE_SQL = """
+        SELECT transaction_type, SUM(earned) FROM point_daily_rollups
+        WHERE user_id = ? AND stat_date BETWEEN ? AND ? AND earned > 0
+        GROUP BY transaction_type
+        """;
+
+    private static final String SPENDING_BY_TYPE_SQL = """
+        SELECT transaction_type, SUM(spent) FROM point_daily_rollups
+        WHERE user_id = ? AND stat_date BETWEEN ? AND ? AND spent > 0
+        GROUP BY transaction_type
+        """;
+
+    @Autowired
+    private PointTransactionService pointTransactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void singleGroupingSetsQueryMatchesAndBeatsThreeQueries() {
+        User user = saveUser();
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(DAYS - 1);
+        seedRollups(user.getId(), startDate);
+
+        PointTransactionService.PeriodStatistics before = previousStatistics(user.getId(), startDate, endDate);
+        PointTransactionService.PeriodStatistics after =
+                pointTransactionService.getPeriodStatistics(user.getId(), startDate, endDate);
+        assertThat(after).isEqualTo(before);
+
+        long beforeNanos = measure(() -> previousStatistics(user.getId(), startDate, endDate));
+        long afterNanos = measure(() -> pointTransactionService.getPeriodStatistics(user.getId(), startDate, endDate));
+
+        log.info("period statistics ({} days x {} types): before={}us/op (3 queries), after={}us/op (1 query), speedup={}x",
+                DAYS, TransactionType.values().length,
+                String.format("%.1f", beforeNanos / 1000.0 / ITERATIONS),
+                String.format("%.1f", afterNanos / 1000.0 / ITERATIONS),
+                String.format("%.2f", (double) beforeNanos / Math.max(afterNanos, 1)));
+    }
+
+    // 변경 전 조회 방식
+    private PointTransactionService.PeriodStatistics previousStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
+        long[] totals = jdbcTemplate.queryForObject(TOTALS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+                userId, startDate, endDate);
+        return new PointTransactionService.PeriodStatistics(
+                (int) totals[0],
+                (int) totals[1],
+                totals[2],
+                byType(EARNINGS_BY_TYPE_SQL, userId, startDate, endDate),
+                byType(SPENDING_BY_TYPE_SQL, userId, startDate, endDate));
+    }
+
+    private Map<String, Integer> byType(String sql, Long userId, LocalDate startDate, LocalDate endDate) {
+        Map<String, Integer> result = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            result.put(rs.getString(1), rs.getInt(2));
+        }, userId, startDate, endDate);
+        return result;
+    }
+
+    private long measure(Runnable query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private void seedRollups(Long userId, LocalDate startDate) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            for (TransactionType type : TransactionType.values()) {
+                boolean spending = type == TransactionType.SPENT;
+                rows.add(new Object[]{userId, startDate.plusDays(day), type.name(),
+                        spending ? 0 : day % 7 + 1, spending ? day % 5 + 1 : 0, 2});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO point_daily_rollups (user_id, stat_date, transaction_type, earned, spent, transaction_count)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, rows);
+    }
+
+    private User saveUser() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        return userRepository.save(User.builder()
+                .email("bench-" + suffix + "@test.com")
+                .password("password")
+                .nickname("bench-" + suffix)
+                .points(0)
+                .agreeTerms(true)
+                .agreePrivacy(true)
+                .agreeMarketing(false)
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+package com.app.emotion_market.service;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 단위 직렬 실행 스트레스 테스트
+ * 락 안에서 동기화되지 않은 읽기-수정-쓰기를 반복해 갱신 유실이 없는지, 경합 시 처리량이 어떻게 달라지는지 확인
+ */
+class UserLockExecutorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserLockExecutorTest.class);
+
+    private static final int THREADS = 16;
+    private static final int MUTATIONS = 2_000;
+
+    @Test
+    void sameUserMutationsAreNotLost() throws Exception {
+        UserLockExecutor executor = new UserLockExecutor(1024, 5_000);
+        Counters counters = new Counters(1);
+
+        long elapsed = run(executor, counters, thread -> 1L);
+
+        report("same user", executor, elapsed);
+        assertThat(counters.get(1L)).isEqualTo((long) THREADS * MUTATIONS);
+        assertThat(executor.getTimedOutCount()).isZero();
+    }
+
+    @Test
+    void hotUsersMutationsAreNotLost() throws Exception {
+        UserLockExecutor executor = new UserLockExecutor(1024, 5_000);
+        Counters counters = new Counters(4);
+
+        long elapsed = run(executor, counters, thread -> (long) (thread % 4) + 1);
+
+        report("4 hot users", executor, elapsed);
+        assertThat(counters.total()).isEqualTo((long) THREADS * MUTATIONS);
+        for (long userId = 1; userId <= 4; userId++) {
+            assertThat(counters.get(userId)).isEqualTo((long) THREADS / 4 * MUTATIONS);
+        }
+        assertThat(executor.getTimedOutCount()).isZero();
+    }
+
+    @Test
+    void distinctUsersRunWithLessContention() throws Exception {
+        UserLockExecutor sameUser = new UserLockExecutor(1024, 5_000);
+        long sameElapsed = run(sameUser, new Counters(1), thread -> 1L);
+
+        UserLockExecutor distinctUsers = new UserLockExecutor(1024, 5_000);
+        Counters counters = new Counters(THREADS);
+        long distinctElapsed = run(distinctUsers, counters, thread -> (long) thread + 1);
+
+        report("same user", sameUser, sameElapsed);
+        report("distinct users", distinctUsers, distinctElapsed);
+        assertThat(counters.total()).isEqualTo((long) THREADS * MUTATIONS);
+        assertThat(distinctUsers.getContendedCount()).isLessThan(sameUser.getContendedCount());
+    }
+
+    private long run(UserLockExecutor executor, Counters counters, IntFunction<Long> userOf) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Long userId = userOf.apply(t);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < MUTATIONS; i++) {
+                        executor.execute(userId, () -> counters.increment(userId));
+                    }
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void report(String scenario, UserLockExecutor executor, long elapsedMs) {
+        long operations = (long) THREADS * MUTATIONS;
+        log.info("{}: {} ops in {}ms ({} ops/s), contended={}, timedOut={}",
+                scenario, operations, elapsedMs, String.format("%.0f", operations * 1000.0 / Math.max(elapsedMs, 1)),
+                executor.getContendedCount(), executor.getTimedOutCount());
+    }
+
+    /**
+     * 사용자별 카운터 (의도적으로 동기화하지 않음 - 직렬화는 UserLockExecutor가 보장해야 함)
+     */
+    private static final class Counters {
+
+        private final long[] values;
+
+        Counters(int users) {
+            this.values = new long[users + 1];
+        }
+
+        Long increment(long userId) {
+            long current = values[(int) userId];
+            Thread.yield(); // 읽기와 쓰기 사이에 끼어들 기회를 만들어 갱신 유실을 드러냄
+            values[(int) userId] = current + 1;
+            return current + 1;
+        }
+
+        long get(long userId) {
+            return values[(int) userId];
+        }
+
+        long total() {
+            long sum = 0;
+            for (long value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.app.emotion_market.service.catalog;
+
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
+import com.app.emotion_market.entity.SystemEmotion;
+import com.app.emotion_market.enums.EmotionType;
+import com.app.emotion_market.repository.SystemEmotionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상점 검색 전후 비교 벤치마크 (실제 DB가 필요)
+ * 이전 방식(이름 LIKE 쿼리 후 Java 스트림으로 가격/평점 필터)과 카탈로그 검색 색인의 결과와 소요 시간을 비교
+ * CATALOG_SEARCH_BENCHMARK=true 일 때만 실행
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "CATALOG_SEARCH_BENCHMARK", matches = "true")
+class CatalogSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearchBenchmarkTest.class);
+
+    private static final int ITEMS = 5_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    private static final String[] MOODS = {"햇살", "바다", "새벽", "노을", "봄비", "숲길", "별빛", "파도"};
+    private static final String[] FEELINGS = {"설렘", "위로", "여유", "그리움", "용기", "안도"};
+
+    @Autowired
+    private SystemEmotionRepository systemEmotionRepository;
+
+    @Autowired
+    private EmotionCatalogService emotionCatalogService;
+
+    @Test
+    void indexMatchesAndBeatsLikeQueryWithStreamFilters() {
+        seedEmotions();
+        emotionCatalogService.refresh();
+
+        String keyword = "노을";
+        int minPrice = 20;
+        int maxPrice = 60;
+        double minRating = 0.0;
+        ShopSearchCondition condition = ShopSearchCondition.builder()
+                .keyword(keyword)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .build();
+        PageRequest firstPage = PageRequest.of(0, 12);
+
+        // 이전 방식은 이름만 검색했으므로 그 결과가 모두 색인 결과에 포함되는지 확인
+        List<Long> before = previousSearch(keyword, minPrice, maxPrice, minRating);
+        List<Long> after = emotionCatalogService.search(condition, PageRequest.of(0, Integer.MAX_VALUE))
+                .map(CatalogItem::id)
+                .getContent();
+        assertThat(before).isNotEmpty();
+        assertThat(after).containsAll(before);
+
+        long beforeNanos = measure(() -> previousSearch(keyword, minPrice, maxPrice, minRating));
+        long afterNanos = measure(() -> emotionCatalogService.search(condition, firstPage));
+
+        log.info("shop search ({} items, {} hits): before={}us/op (LIKE + stream filters), after={}us/op (index), speedup={}x",
+                ITEMS, after.size(),
+                String.format("%.1f", beforeNanos / 1000.0 / ITERATIONS),
+                String.format("%.1f", afterNanos / 1000.0 / ITERATIONS),
+                String.format("%.2f", (double) beforeNanos / Math.max(afterNanos, 1)));
+    }
+
+    // 변경 전 검색 방식
+    private List<Long> previousSearch(String keyword, int minPrice, int maxPrice, double minRating) {
+        return systemEmotionRepository.findByNameContainingIgnoreCaseAndIsActiveTrueOrderByTotalPurchasesDesc(keyword)
+                .stream()
+                .filter(emotion -> emotion.getPrice() >= minPrice && emotion.getPrice() <= maxPrice)
+                .filter(emotion -> (emotion.getAverageRating() != null ? emotion.getAverageRating().doubleValue() : 0.0) >= minRating)
+                .map(SystemEmotion::getId)
+                .toList();
+    }
+
+    private long measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private void seedEmotions() {
+        EmotionType[] types = EmotionType.values();
+        String suffix = Long.toString(System.nanoTime(), 36);
+        List<SystemEmotion> emotions = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            EmotionType type = types[i % types.length];
+            String mood = MOODS[i % MOODS.length];
+            String feeling = FEELINGS[i % FEELINGS.length];
+            emotions.add(SystemEmotion.builder()
+                    .emotionType(type)
+                    .name(mood + "의 " + feeling + " " + suffix + "-" + i)
+                    .description(MOODS[(i + 3) % MOODS.length] + " 아래에서 느끼는 " + type.getKoreanName())
+                    .emoji(type.getEmoji())
+                    .categoryId(i % 8 + 1)
+                    .price(10 + i % 7 * 10)
+                    .contents("{}")
+                    .build());
+        }
+        systemEmotionRepository.saveAll(emotions);
+    }
+}
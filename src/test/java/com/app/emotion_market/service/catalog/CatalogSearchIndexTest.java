@@ -0,0 +1,86 @@
+package com.app.emotion_market.service.catalog;
+
+import com.app.emotion_market.dto.request.shop.ShopSearchCondition;
+import com.app.emotion_market.enums.EmotionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카탈로그 검색 색인 테스트
+ * 단어별 부분 일치, 점수/인기순 정렬, 필터, 검색할 단어가 없는 키워드 처리를 확인
+ */
+class CatalogSearchIndexTest {
+
+    // 인기순 (구매 수 내림차순)
+    private final CatalogItem morningJoy = item(1L, EmotionType.JOY, "아침 햇살", "상쾌한 기분", 1, 30, "4.5", 100);
+    private final CatalogItem rainyDay = item(2L, EmotionType.SADNESS, "비 오는 날", "햇살이 그리운 오후", 2, 20, "3.0", 80);
+    private final CatalogItem calmSea = item(3L, EmotionType.PEACE, "고요한 바다", "기쁨이 잔잔하게", 3, 50, null, 60);
+    private final CatalogItem firstLove = item(4L, EmotionType.LOVE, "First Love", "설레는 마음", 4, 40, "5.0", 40);
+
+    private final CatalogSearchIndex index =
+            new CatalogSearchIndex(new CatalogItem[]{morningJoy, rainyDay, calmSea, firstLove});
+
+    @Test
+    void ranksNameMatchesBeforeDescriptionMatches() {
+        assertThat(search("햇살")).containsExactly(morningJoy, rainyDay);
+    }
+
+    @Test
+    void typeNameOutranksDescriptionAndTiesKeepPopularity() {
+        // JOY(기쁨) 유형 2점 > 설명 1점
+        assertThat(search("기쁨")).containsExactly(morningJoy, calmSea);
+        assertThat(search("")).containsExactly(morningJoy, rainyDay, calmSea, firstLove);
+    }
+
+    @Test
+    void everyWordMustMatchAndCaseIsIgnored() {
+        assertThat(search("first LOVE")).containsExactly(firstLove);
+        assertThat(search("햇살 바다")).isEmpty();
+        assertThat(search("바")).containsExactly(calmSea);
+    }
+
+    @Test
+    void keywordWithoutLettersOrDigitsMatchesNothing() {
+        assertThat(search("!!!")).isEmpty();
+        assertThat(search(" - ")).isEmpty();
+        assertThat(index.search(ShopSearchCondition.builder().build())).hasSize(4);
+    }
+
+    @Test
+    void appliesCategoryPriceAndRatingFilters() {
+        assertThat(index.search(ShopSearchCondition.builder().categoryId(2L).build())).containsExactly(rainyDay);
+        assertThat(index.search(ShopSearchCondition.builder().minPrice(30).maxPrice(40).build()))
+                .containsExactly(morningJoy, firstLove);
+        // 평점이 없는 상품은 0점으로 비교
+        assertThat(index.search(ShopSearchCondition.builder().minRating(0.0).build())).hasSize(4);
+        assertThat(index.search(ShopSearchCondition.builder().minRating(4.0).build()))
+                .containsExactly(morningJoy, firstLove);
+    }
+
+    @Test
+    void itemsWithoutCategoryOrPriceFailThoseFiltersInsteadOfThrowing() {
+        CatalogItem incomplete = item(5L, EmotionType.FEAR, "밤길", null, null, null, null, 0);
+        CatalogSearchIndex withIncomplete = new CatalogSearchIndex(new CatalogItem[]{morningJoy, incomplete});
+
+        assertThat(withIncomplete.search(ShopSearchCondition.builder().keyword("밤길").categoryId(1L).build())).isEmpty();
+        assertThat(withIncomplete.search(ShopSearchCondition.builder().minPrice(0).build())).containsExactly(morningJoy);
+        assertThat(withIncomplete.search(ShopSearchCondition.builder().maxPrice(100).build())).containsExactly(morningJoy);
+        assertThat(withIncomplete.search(ShopSearchCondition.builder().keyword("밤길").build())).containsExactly(incomplete);
+    }
+
+    private List<CatalogItem> search(String keyword) {
+        return index.search(ShopSearchCondition.builder().keyword(keyword).build());
+    }
+
+    private static CatalogItem item(Long id, EmotionType type, String name, String description,
+                                    Integer categoryId, Integer price, String rating, int totalPurchases) {
+        return new CatalogItem(id, type, name, description, type.getEmoji(), categoryId, price,
+                rating != null ? new BigDecimal(rating) : null, totalPurchases, 0, LocalDateTime.now(),
+                null, null, null, null);
+    }
+}